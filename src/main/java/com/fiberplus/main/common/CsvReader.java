@@ -0,0 +1,95 @@
+package com.fiberplus.main.common;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Lector de CSV (RFC 4180) registro a registro, sin cargar el archivo completo.
+ * Admite campos entre comillas con comas, saltos de línea y comillas dobles escapadas.
+ * Las líneas vacías se ignoran.
+ */
+public class CsvReader implements Closeable {
+    private final BufferedReader reader;
+    private int line = 1;
+    private int recordLine;
+    private boolean finished;
+
+    public CsvReader(Reader reader) {
+        this.reader = reader instanceof BufferedReader buffered ? buffered : new BufferedReader(reader);
+    }
+
+    /**
+     * Siguiente registro, o null al final del archivo. Lanza IllegalArgumentException
+     * si el último registro deja comillas sin cerrar.
+     */
+    public List<String> next() throws IOException {
+        while (!finished) {
+            List<String> fields = readRecord();
+            if (fields.size() > 1 || !fields.get(0).isEmpty()) {
+                return fields;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Línea del archivo en la que empezó el último registro leído.
+     */
+    public int lineNumber() {
+        return recordLine;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private List<String> readRecord() throws IOException {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        recordLine = line;
+
+        int c;
+        while ((c = reader.read()) != -1) {
+            if (quoted) {
+                if (c == '"') {
+                    reader.mark(1);
+                    if (reader.read() == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        reader.reset();
+                    }
+                } else {
+                    if (c == '\n') {
+                        line++;
+                    }
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.length() == 0) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n') {
+                line++;
+                fields.add(field.toString());
+                return fields;
+            } else if (c != '\r') {
+                field.append((char) c);
+            }
+        }
+
+        finished = true;
+        if (quoted) {
+            throw new IllegalArgumentException("Comillas sin cerrar");
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+}
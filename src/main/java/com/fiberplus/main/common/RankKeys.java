@@ -0,0 +1,125 @@
+package com.fiberplus.main.common;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Claves de orden fraccionario (estilo LexoRank) para las tareas de un tablero.
+ * Cada clave es la parte fraccionaria de un número en base 62, sin ceros finales,
+ * así el orden lexicográfico de las cadenas coincide con el numérico y siempre hay
+ * una clave entre dos cualesquiera: insertar entre dos tareas cambia solo la movida.
+ *
+ * Los dígitos están en orden ASCII, el mismo con que MongoDB compara cadenas.
+ */
+public final class RankKeys {
+    private static final String DIGITS = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz";
+    private static final int BASE = DIGITS.length();
+
+    /**
+     * Largo a partir del cual conviene redistribuir las claves del tablero.
+     */
+    public static final int MAX_LENGTH = 12;
+
+    private RankKeys() {
+    }
+
+    /**
+     * Clave estrictamente entre {@code before} y {@code after}; null en cualquiera de
+     * los dos significa el inicio o el final de la lista.
+     */
+    public static String between(String before, String after) {
+        String a = before != null ? before : "";
+        if (after != null && a.compareTo(after) >= 0) {
+            throw new IllegalArgumentException("Claves fuera de orden: " + before + " >= " + after);
+        }
+        return midpoint(a, after);
+    }
+
+    /**
+     * Clave mayor que {@code key} pero menor que cualquier otra clave mayor que no
+     * empiece por {@code key}: queda pegada a ella.
+     */
+    public static String justAfter(String key) {
+        return key + DIGITS.charAt(BASE / 2);
+    }
+
+    /**
+     * {@code count} claves en orden después de {@code last}, todas con el mismo prefijo.
+     * Para agregar muchas tareas al final de una vez sin que cada clave crezca.
+     */
+    public static List<String> afterAll(String last, int count) {
+        String prefix = between(last, null);
+        return spread(count).stream().map(key -> prefix + key).toList();
+    }
+
+    /**
+     * {@code count} claves cortas y equiespaciadas, en orden, para redistribuir un tablero.
+     */
+    public static List<String> spread(int count) {
+        int width = 1;
+        long slots = BASE;
+        while (slots <= count * 4L) {
+            width++;
+            slots *= BASE;
+        }
+
+        List<String> keys = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            keys.add(stripZeros(toDigits(slots / (count + 1) * i, width)));
+        }
+        return keys;
+    }
+
+    private static String midpoint(String a, String b) {
+        if (b != null) {
+            int prefix = 0;
+            while (prefix < b.length() && digitAt(a, prefix) == b.charAt(prefix)) {
+                prefix++;
+            }
+            if (prefix > 0) {
+                String rest = prefix < a.length() ? a.substring(prefix) : "";
+                return b.substring(0, prefix) + midpoint(rest, b.substring(prefix));
+            }
+        }
+
+        int digitA = a.isEmpty() ? 0 : DIGITS.indexOf(a.charAt(0));
+        int digitB = b != null ? DIGITS.indexOf(b.charAt(0)) : BASE;
+
+        // Al agregar al final o al principio se avanza un dígito en lugar de partir el
+        // hueco a la mitad, para que las claves no crezcan con cada tarea nueva
+        if (b == null && !a.isEmpty() && digitA + 1 < BASE) {
+            return String.valueOf(DIGITS.charAt(digitA + 1));
+        }
+        if (a.isEmpty() && b != null && digitB > 1) {
+            return String.valueOf(DIGITS.charAt(digitB - 1));
+        }
+        if (digitB - digitA > 1) {
+            return String.valueOf(DIGITS.charAt((digitA + digitB + 1) / 2));
+        }
+        if (b != null && b.length() > 1) {
+            return b.substring(0, 1);
+        }
+        return DIGITS.charAt(digitA) + midpoint(a.isEmpty() ? "" : a.substring(1), null);
+    }
+
+    private static char digitAt(String key, int index) {
+        return index < key.length() ? key.charAt(index) : DIGITS.charAt(0);
+    }
+
+    private static String toDigits(long value, int width) {
+        char[] digits = new char[width];
+        for (int i = width - 1; i >= 0; i--) {
+            digits[i] = DIGITS.charAt((int) (value % BASE));
+            value /= BASE;
+        }
+        return new String(digits);
+    }
+
+    private static String stripZeros(String key) {
+        int end = key.length();
+        while (end > 1 && key.charAt(end - 1) == DIGITS.charAt(0)) {
+            end--;
+        }
+        return key.substring(0, end);
+    }
+}
@@ -2,6 +2,7 @@ package com.fiberplus.main.common;
 
 import java.util.List;
 
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
 public class ResponseBuilder {
@@ -18,6 +19,20 @@ public class ResponseBuilder {
         return build(200, message, data);
     }
 
+    public static <T> ResponseEntity<ApiResponse<T>> ok(String message, T data, String eTag) {
+        return ResponseEntity
+                .ok()
+                .eTag(eTag)
+                .body(new ApiResponse<>(200, message, data));
+    }
+
+    public static <T> ResponseEntity<ApiResponse<T>> notModified(String eTag) {
+        return ResponseEntity
+                .status(HttpStatus.NOT_MODIFIED)
+                .eTag(eTag)
+                .build();
+    }
+
     public static <T> ResponseEntity<ApiResponse<T>> created(String message, T data) {
         return build(201, message, data);
     }
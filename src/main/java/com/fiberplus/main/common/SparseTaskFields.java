@@ -0,0 +1,15 @@
+package com.fiberplus.main.common;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marca los endpoints que aceptan {@code fields=}: sus tareas se serializan solo con
+ * los campos pedidos (ver {@link TaskFields}).
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface SparseTaskFields {
+}
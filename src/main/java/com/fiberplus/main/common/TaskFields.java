@@ -0,0 +1,97 @@
+package com.fiberplus.main.common;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.databind.ser.FilterProvider;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.fiberplus.main.exception.GenericException;
+
+/**
+ * Campos de tarea pedidos con {@code fields=} en las lecturas de tableros y tareas.
+ * Se traducen a una proyección de MongoDB y a un filtro de Jackson sobre
+ * {@code TaskDto}, así los campos no pedidos ni se leen ni se serializan.
+ * El id siempre se incluye.
+ */
+public final class TaskFields {
+    public static final String FILTER_ID = "taskFields";
+
+    private static final Set<String> SUPPORTED = Set.of(
+            "title", "description", "priority", "boardId", "assignedTo", "assignedUsers",
+            "dueDate", "latitude", "longitude", "rank", "createdAt", "updatedAt");
+
+    private static final TaskFields ALL = new TaskFields(null);
+
+    // null significa todos los campos
+    private final Set<String> fields;
+
+    private TaskFields(Set<String> fields) {
+        this.fields = fields;
+    }
+
+    public static TaskFields all() {
+        return ALL;
+    }
+
+    public static TaskFields parse(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return ALL;
+        }
+
+        Set<String> requested = Arrays.stream(fields.split(","))
+                .map(String::trim)
+                .filter(field -> !field.isEmpty() && !field.equals("id"))
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+
+        for (String field : requested) {
+            if (!SUPPORTED.contains(field)) {
+                throw new GenericException("Campo de tarea no soportado en fields: " + field
+                        + ". Campos válidos: " + String.join(", ", SUPPORTED.stream().sorted().toList()));
+            }
+        }
+        return new TaskFields(requested);
+    }
+
+    /**
+     * Representación normalizada (ordenada) para usar en claves.
+     */
+    public String key() {
+        return fields == null ? "*" : String.join(",", fields.stream().sorted().toList());
+    }
+
+    public boolean isAll() {
+        return fields == null;
+    }
+
+    /**
+     * Los usuarios asignados se hidratan solo si se piden, y cuestan una consulta extra.
+     */
+    public boolean includesUsers() {
+        return fields == null || fields.contains("assignedUsers");
+    }
+
+    /**
+     * Campos a proyectar en MongoDB. boardId se lee siempre porque agrupa las tareas por
+     * tablero, y assignedTo cuando se piden los usuarios asignados.
+     */
+    public Collection<String> mongoFields() {
+        Set<String> mongoFields = new HashSet<>(fields);
+        if (mongoFields.remove("assignedUsers")) {
+            mongoFields.add("assignedTo");
+        }
+        mongoFields.add("boardId");
+        return mongoFields;
+    }
+
+    public FilterProvider filterProvider() {
+        Set<String> serialized = new HashSet<>(fields);
+        serialized.add("id");
+        return new SimpleFilterProvider()
+                .addFilter(FILTER_ID, SimpleBeanPropertyFilter.filterOutAllExcept(serialized));
+    }
+}
@@ -0,0 +1,22 @@
+package com.fiberplus.main.config;
+
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+
+@Configuration
+public class JacksonConfig {
+
+    /**
+     * Los DTOs con @JsonFilter se serializan completos salvo que la respuesta indique
+     * un filtro propio (ver {@code TaskFields}).
+     */
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer serializeAllByDefault() {
+        return builder -> builder.filters(new SimpleFilterProvider()
+                .setDefaultFilter(SimpleBeanPropertyFilter.serializeAll()));
+    }
+}
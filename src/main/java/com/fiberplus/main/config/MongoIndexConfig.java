@@ -0,0 +1,91 @@
+package com.fiberplus.main.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.stereotype.Component;
+
+import com.fiberplus.main.entities.BoardEntity;
+import com.fiberplus.main.entities.ReportRollupEntity;
+import com.fiberplus.main.entities.TaskEntity;
+import com.fiberplus.main.repositories.TaskQueryRepository;
+
+/**
+ * Índices que necesitan las consultas de reportes y tableros. Se crean explícitamente
+ * al arrancar porque la creación automática de Spring Data está deshabilitada.
+ */
+@Component
+public class MongoIndexConfig {
+    private static final Logger logger = LoggerFactory.getLogger(MongoIndexConfig.class);
+
+    private final MongoTemplate mongoTemplate;
+
+    public MongoIndexConfig(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureIndexes() {
+        try {
+            mongoTemplate.indexOps(ReportRollupEntity.class).ensureIndex(new Index()
+                    .on("day", Sort.Direction.ASC)
+                    .on("boardId", Sort.Direction.ASC)
+                    .named("day_board"));
+
+            mongoTemplate.indexOps(TaskEntity.class).ensureIndex(new Index()
+                    .on("boardId", Sort.Direction.ASC)
+                    .on("_id", Sort.Direction.ASC)
+                    .named("board_id"));
+
+            mongoTemplate.indexOps(TaskEntity.class).ensureIndex(new Index()
+                    .on("changeSeq", Sort.Direction.ASC)
+                    .named("change_seq"));
+
+            ensureTaskSearchIndexes();
+            ensureTaskReportIndexes();
+
+            mongoTemplate.indexOps(BoardEntity.class).ensureIndex(new Index()
+                    .on("changeSeq", Sort.Direction.ASC)
+                    .named("change_seq"));
+
+            logger.info("✅ Índices de MongoDB verificados");
+        } catch (Exception e) {
+            logger.error("❌ Error al crear índices de MongoDB: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Un índice por combinación de igualdad y orden de /api/tasks/search; los
+     * descendentes recorren el mismo índice en sentido inverso.
+     */
+    private void ensureTaskSearchIndexes() {
+        ensureTaskIndex(TaskQueryRepository.INDEX_BOARD_CREATED, "boardId", "createdAt");
+        ensureTaskIndex(TaskQueryRepository.INDEX_BOARD_DUE, "boardId", "dueDate");
+        ensureTaskIndex(TaskQueryRepository.INDEX_ASSIGNEE_CREATED, "assignedTo", "createdAt");
+        ensureTaskIndex(TaskQueryRepository.INDEX_ASSIGNEE_DUE, "assignedTo", "dueDate");
+        ensureTaskIndex(TaskQueryRepository.INDEX_CREATED, "createdAt");
+        ensureTaskIndex(TaskQueryRepository.INDEX_DUE, "dueDate");
+        ensureTaskIndex(TaskQueryRepository.INDEX_BOARD_RANK, "boardId", "rank");
+    }
+
+    /**
+     * Los reportes filtran por estado cerrado y rango de closedAt. El detalle exportado
+     * además se ordena por createdAt: igualdad, orden y rango, en ese orden.
+     */
+    private void ensureTaskReportIndexes() {
+        ensureTaskIndex("status_closed", "status", "closedAt");
+        ensureTaskIndex("status_created_closed", "status", "createdAt", "closedAt");
+    }
+
+    private void ensureTaskIndex(String name, String... fields) {
+        Index index = new Index();
+        for (String field : fields) {
+            index.on(field, Sort.Direction.ASC);
+        }
+        mongoTemplate.indexOps(TaskEntity.class).ensureIndex(index.on("_id", Sort.Direction.ASC).named(name));
+    }
+}
@@ -74,7 +74,7 @@ public class SecurityConfig {
         config.setAllowedHeaders(List.of("*"));
 
         config.setExposedHeaders(List.of(
-                "Authorization"));
+                "Authorization", "ETag"));
 
         config.setAllowCredentials(true);
 
@@ -4,6 +4,7 @@ import java.util.List;
 
 import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageDeliveryException;
 import org.springframework.messaging.simp.stomp.StompCommand;
 import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
 import org.springframework.messaging.support.ChannelInterceptor;
@@ -11,13 +12,16 @@ import org.springframework.messaging.support.MessageHeaderAccessor;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
 
+import com.fiberplus.main.services.LiveDashboardService;
 import com.fiberplus.main.util.JwtUtil;
 
 @Component
 public class WebSocketAuthInterceptor implements ChannelInterceptor {
 
     private final JwtUtil jwtUtil;
+    private final AntPathMatcher destinationMatcher = new AntPathMatcher();
 
     public WebSocketAuthInterceptor(JwtUtil jwtUtil) {
         this.jwtUtil = jwtUtil;
@@ -54,6 +58,16 @@ public class WebSocketAuthInterceptor implements ChannelInterceptor {
             }
         }
 
+        // El resumen del dashboard solo se publica a usuarios autenticados; el broker admite
+        // patrones en la suscripción, así que también se cubre /topic/** y similares
+        if (accessor != null && StompCommand.SUBSCRIBE.equals(accessor.getCommand())
+                && accessor.getDestination() != null
+                && destinationMatcher.match(accessor.getDestination(), LiveDashboardService.DASHBOARD_TOPIC)
+                && accessor.getUser() == null) {
+            throw new MessageDeliveryException(message, "Se requiere autenticación para suscribirse a "
+                    + LiveDashboardService.DASHBOARD_TOPIC);
+        }
+
         return message;
     }
 }
\ No newline at end of file
@@ -10,13 +10,29 @@ import org.springframework.web.bind.annotation.*;
 
 import com.fiberplus.main.common.ApiResponse;
 import com.fiberplus.main.common.ResponseBuilder;
+import com.fiberplus.main.common.SparseTaskFields;
+import com.fiberplus.main.common.TaskFields;
+import com.fiberplus.main.dtos.BoardChangesDto;
 import com.fiberplus.main.dtos.BoardDto;
+import com.fiberplus.main.dtos.BoardSummaryDto;
 import com.fiberplus.main.dtos.BoardWithTasksDto;
+import com.fiberplus.main.dtos.NormalizedBoardsDto;
+import com.fiberplus.main.dtos.TaskPageDto;
 import com.fiberplus.main.services.BoardService;
+import com.fiberplus.main.services.ConditionalRequestService;
+import com.fiberplus.main.services.SerializedResponseCache;
+import com.fiberplus.main.services.SerializedResponseCache.SerializedBody;
+import com.fiberplus.main.services.SingleFlightService;
 
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import java.io.IOException;
 import java.util.List;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("api/boards")
@@ -24,9 +40,16 @@ import org.springframework.http.ResponseEntity;
 public class BoardController {
 
     private final BoardService _service;
+    private final ConditionalRequestService _conditionalRequests;
+    private final SerializedResponseCache _responseCache;
+    private final SingleFlightService _singleFlight;
 
-    public BoardController(BoardService _service) {
+    public BoardController(BoardService _service, ConditionalRequestService _conditionalRequests,
+            SerializedResponseCache _responseCache, SingleFlightService _singleFlight) {
         this._service = _service;
+        this._conditionalRequests = _conditionalRequests;
+        this._responseCache = _responseCache;
+        this._singleFlight = _singleFlight;
     }
 
     @PostMapping
@@ -74,21 +97,169 @@ public class BoardController {
         return ResponseBuilder.ok("Lista de tableros obtenida exitosamente", boards);
     }
     
+    @GetMapping("/summary")
+    @Operation(
+        summary = "Resumen de tableros",
+        description = "Retorna los tableros activos con sus totales de tareas abiertas, cerradas, "
+                + "vencidas y por prioridad, sin las tareas"
+    )
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(
+        responseCode = "200",
+        description = "Resumen obtenido exitosamente"
+    )
+    public ResponseEntity<ApiResponse<List<BoardSummaryDto>>> getSummaries() {
+        List<BoardSummaryDto> summaries = _service.getSummaries();
+        return ResponseBuilder.ok("Resumen de tableros obtenido exitosamente", summaries);
+    }
+
     @GetMapping("/with-tasks")
+    @SparseTaskFields
     @Operation(
         summary = "Obtener tableros con tareas",
-        description = "Retorna todos los tableros con sus tareas asociadas"
+        description = "Retorna todos los tableros con sus tareas asociadas. Con pageSize, cada tablero "
+                + "trae solo su primera página de tareas y el cursor para pedir la siguiente"
     )
     @io.swagger.v3.oas.annotations.responses.ApiResponse(
         responseCode = "200",
         description = "Tableros con tareas obtenidos exitosamente"
     )
-    public ResponseEntity<ApiResponse<List<BoardWithTasksDto>>> getAllBoardsWithTasks() {
-        List<BoardWithTasksDto> boards = _service.getAllWithTasks();
-        return ResponseBuilder.ok("Tableros con tareas obtenidos exitosamente", boards);
+    public ResponseEntity<ApiResponse<List<BoardWithTasksDto>>> getAllBoardsWithTasks(
+            @Parameter(description = "Tareas por tablero (máximo " + BoardService.MAX_TASK_PAGE_SIZE + ")")
+            @RequestParam(required = false) Integer pageSize,
+            @Parameter(description = "Campos de tarea separados por coma, p. ej. title,priority,dueDate,assignedTo")
+            @RequestParam(required = false) String fields,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        TaskFields taskFields = TaskFields.parse(fields);
+        String eTag = _conditionalRequests.boardsETag();
+        if (_conditionalRequests.isNotModified(ConditionalRequestService.BOARDS, ifNoneMatch, eTag)) {
+            return ResponseBuilder.notModified(eTag);
+        }
+
+        // Los tableros no dependen del usuario: la clave es la versión más los parámetros
+        List<BoardWithTasksDto> boards = _singleFlight.execute(ConditionalRequestService.BOARDS,
+                eTag + "?pageSize=" + pageSize + "&fields=" + taskFields.key(),
+                () -> pageSize != null
+                        ? _service.getAllWithTaskPages(pageSize, taskFields)
+                        : _service.getAllWithTasks(taskFields));
+        return ResponseBuilder.ok("Tableros con tareas obtenidos exitosamente", boards, eTag);
+    }
+
+    /**
+     * Variante más pedida de /with-tasks (sin pageSize, fields ni format): se sirve desde
+     * los bytes ya serializados de la versión actual y solo se vuelve a serializar cuando
+     * cambia algún tablero, tarea o usuario.
+     */
+    @GetMapping(value = "/with-tasks", params = {"!pageSize", "!fields", "!format"})
+    @Operation(
+        summary = "Obtener tableros con tareas",
+        description = "Retorna todos los tableros con sus tareas asociadas, comprimido con gzip si el "
+                + "cliente lo acepta"
+    )
+    public void getAllBoardsWithTasksSerialized(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            HttpServletResponse response) throws IOException {
+        String eTag = _conditionalRequests.boardsETag();
+        String gzipETag = ConditionalRequestService.gzipETag(eTag);
+        boolean acceptsGzip = SerializedResponseCache.acceptsGzip(acceptEncoding);
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+
+        // Quien acepta gzip puede tener cualquiera de los dos: las respuestas pequeñas van sin comprimir
+        String matchedETag = acceptsGzip
+                ? _conditionalRequests.matchingETag(ConditionalRequestService.BOARDS, ifNoneMatch, gzipETag, eTag)
+                : _conditionalRequests.matchingETag(ConditionalRequestService.BOARDS, ifNoneMatch, eTag);
+        if (matchedETag != null) {
+            response.setHeader(HttpHeaders.ETAG, matchedETag);
+            response.setStatus(HttpStatus.NOT_MODIFIED.value());
+            return;
+        }
+
+        SerializedBody body = _responseCache.getOrSerialize(ConditionalRequestService.BOARDS, eTag,
+                () -> new ApiResponse<>(HttpStatus.OK.value(), "Tableros con tareas obtenidos exitosamente",
+                        _service.getAllWithTasks(TaskFields.all())));
+        boolean gzip = body.hasGzip() && acceptsGzip;
+
+        response.setHeader(HttpHeaders.ETAG, gzip ? gzipETag : eTag);
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(body.length(gzip));
+        if (gzip) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        body.writeTo(response.getOutputStream(), gzip);
+    }
+
+    @GetMapping(value = "/with-tasks", params = "format=normalized")
+    @Operation(
+        summary = "Obtener tableros con tareas en formato normalizado",
+        description = "Tableros y usuarios como diccionarios por id; las tareas referencian a sus "
+                + "asignados solo por id. Admite pageSize igual que el formato completo"
+    )
+    public ResponseEntity<ApiResponse<NormalizedBoardsDto>> getAllBoardsWithTasksNormalized(
+            @RequestParam(required = false) Integer pageSize,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        String eTag = _conditionalRequests.boardsETag();
+        if (_conditionalRequests.isNotModified(ConditionalRequestService.BOARDS, ifNoneMatch, eTag)) {
+            return ResponseBuilder.notModified(eTag);
+        }
+
+        NormalizedBoardsDto boards = _singleFlight.execute(ConditionalRequestService.BOARDS,
+                eTag + "?format=normalized&pageSize=" + pageSize,
+                () -> _service.getAllWithTasksNormalized(pageSize));
+        return ResponseBuilder.ok("Tableros con tareas obtenidos exitosamente", boards, eTag);
+    }
+
+    @GetMapping("/changes")
+    @Operation(
+        summary = "Cambios de tableros y tareas desde una secuencia",
+        description = "Sincronización incremental tras una reconexión: devuelve tableros y tareas "
+                + "creados, actualizados o movidos después de since, y marcas de eliminación. Sin since "
+                + "devuelve solo la secuencia actual"
+    )
+    public ResponseEntity<ApiResponse<BoardChangesDto>> getChanges(
+            @Parameter(description = "Último nextSince recibido")
+            @RequestParam(required = false) Long since,
+            @Parameter(description = "Máximo de cambios (máximo " + BoardService.MAX_CHANGES + ")")
+            @RequestParam(defaultValue = "500") int limit) {
+        BoardChangesDto changes = _service.getChanges(since, limit);
+        return ResponseBuilder.ok("Cambios obtenidos exitosamente", changes);
+    }
+
+    @GetMapping(value = "/with-tasks/stream", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(
+        summary = "Obtener tableros con tareas en streaming",
+        description = "Escribe el arreglo de tableros con sus tareas a medida que se lee de la base, "
+                + "sin el envoltorio ApiResponse"
+    )
+    public ResponseEntity<StreamingResponseBody> streamBoardsWithTasks() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(_service.streamAllWithTasks());
+    }
+
+    @GetMapping("/{id}/tasks")
+    @SparseTaskFields
+    @Operation(
+        summary = "Obtener una página de tareas de un tablero",
+        description = "Paginación por cursor: se envía como cursor el nextCursor de la página anterior"
+    )
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Página obtenida"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "Tablero no encontrado")
+    })
+    public ResponseEntity<ApiResponse<TaskPageDto>> getBoardTaskPage(
+            @Parameter(description = "ID del tablero", required = true)
+            @PathVariable String id,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int pageSize,
+            @Parameter(description = "Campos de tarea separados por coma, p. ej. title,priority,dueDate,assignedTo")
+            @RequestParam(required = false) String fields) {
+        TaskPageDto page = _service.getTaskPage(id, cursor, pageSize, TaskFields.parse(fields));
+        return ResponseBuilder.ok("Página de tareas obtenida exitosamente", page);
     }
 
     @GetMapping("/{id}/with-tasks")
+    @SparseTaskFields
     @Operation(
         summary = "Obtener un tablero específico con tareas",
         description = "Retorna un tablero con todas sus tareas"
@@ -98,6 +269,10 @@ public class BoardController {
             responseCode = "200",
             description = "Tablero encontrado"
         ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "304",
+            description = "Sin cambios desde el ETag enviado en If-None-Match"
+        ),
         @io.swagger.v3.oas.annotations.responses.ApiResponse(
             responseCode = "404",
             description = "Tablero no encontrado"
@@ -105,9 +280,18 @@ public class BoardController {
     })
     public ResponseEntity<ApiResponse<BoardWithTasksDto>> getBoardWithTasks(
             @Parameter(description = "ID del tablero", required = true)
-            @PathVariable String id) {
-        BoardWithTasksDto board = _service.getByIdWithTasks(id);
-        return ResponseBuilder.ok("Tablero con tareas obtenido exitosamente", board);
+            @PathVariable String id,
+            @Parameter(description = "Campos de tarea separados por coma, p. ej. title,priority,dueDate,assignedTo")
+            @RequestParam(required = false) String fields,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        TaskFields taskFields = TaskFields.parse(fields);
+        String eTag = _conditionalRequests.boardETag(id);
+        if (_conditionalRequests.isNotModified(ConditionalRequestService.BOARD, ifNoneMatch, eTag)) {
+            return ResponseBuilder.notModified(eTag);
+        }
+
+        BoardWithTasksDto board = _service.getByIdWithTasks(id, taskFields);
+        return ResponseBuilder.ok("Tablero con tareas obtenido exitosamente", board, eTag);
     }
 
     @PutMapping("/{id}")
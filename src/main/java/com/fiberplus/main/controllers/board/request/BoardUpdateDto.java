@@ -1,6 +1,7 @@
 package com.fiberplus.main.controllers.board.request;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -25,7 +26,11 @@ public class BoardUpdateDto {
     private Object task;
     private Object board;
 
+    private List<?> tasks;
+    private List<String> taskIds;
+
     private Integer newIndex;
+    private Integer count;
     
     @Builder.Default
     private String timestamp = LocalDateTime.now().toString();
@@ -0,0 +1,44 @@
+package com.fiberplus.main.controllers.metrics;
+
+import java.util.List;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.fiberplus.main.common.ApiResponse;
+import com.fiberplus.main.common.ResponseBuilder;
+import com.fiberplus.main.dtos.ConditionalRequestStats;
+import com.fiberplus.main.dtos.SingleFlightStats;
+import com.fiberplus.main.services.ConditionalRequestService;
+import com.fiberplus.main.services.SingleFlightService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+@RestController
+@RequestMapping("api/metrics")
+@Tag(name = "Metrics", description = "Métricas de uso de la API")
+public class MetricsController {
+
+    private final ConditionalRequestService conditionalRequests;
+    private final SingleFlightService singleFlight;
+
+    public MetricsController(ConditionalRequestService conditionalRequests, SingleFlightService singleFlight) {
+        this.conditionalRequests = conditionalRequests;
+        this.singleFlight = singleFlight;
+    }
+
+    @GetMapping("/conditional-requests")
+    @Operation(summary = "Aciertos de GETs condicionales", description = "Peticiones y respuestas 304 por recurso")
+    public ResponseEntity<ApiResponse<List<ConditionalRequestStats>>> getConditionalRequestStats() {
+        return ResponseBuilder.ok("Métricas de GETs condicionales", conditionalRequests.getStats());
+    }
+
+    @GetMapping("/single-flight")
+    @Operation(summary = "Peticiones agrupadas", description = "Cálculos ejecutados y peticiones que esperaron uno en curso, por endpoint")
+    public ResponseEntity<ApiResponse<List<SingleFlightStats>>> getSingleFlightStats() {
+        return ResponseBuilder.ok("Métricas de peticiones agrupadas", singleFlight.getStats());
+    }
+}
@@ -3,11 +3,13 @@ package com.fiberplus.main.controllers.notification;
 import com.fiberplus.main.common.ApiResponse;
 import com.fiberplus.main.common.ResponseBuilder;
 import com.fiberplus.main.dtos.NotificationDto;
+import com.fiberplus.main.services.ConditionalRequestService;
 import com.fiberplus.main.services.NotificationService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -20,14 +22,22 @@ import java.util.List;
 public class NotificationController {
 
     private final NotificationService notificationService;
+    private final ConditionalRequestService conditionalRequests;
 
     @GetMapping("/user/{userId}")
-    @Operation(summary = "Obtener todas las notificaciones de un usuario")
+    @Operation(summary = "Obtener todas las notificaciones de un usuario",
+            description = "Admite If-None-Match: responde 304 si no hubo cambios desde el ETag enviado")
     public ResponseEntity<ApiResponse<List<NotificationDto>>> getUserNotifications(
             @Parameter(description = "ID del usuario", required = true)
-            @PathVariable String userId) {
+            @PathVariable String userId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        String eTag = conditionalRequests.notificationsETag(userId);
+        if (conditionalRequests.isNotModified(ConditionalRequestService.NOTIFICATIONS, ifNoneMatch, eTag)) {
+            return ResponseBuilder.notModified(eTag);
+        }
+
         List<NotificationDto> notifications = notificationService.getUserNotifications(userId);
-        return ResponseBuilder.ok("Notificaciones obtenidas exitosamente", notifications);
+        return ResponseBuilder.ok("Notificaciones obtenidas exitosamente", notifications, eTag);
     }
 
     @GetMapping("/user/{userId}/unread")
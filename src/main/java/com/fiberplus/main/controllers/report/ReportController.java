@@ -3,16 +3,29 @@ package com.fiberplus.main.controllers.report;
 import java.time.LocalDateTime;
 
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.fiberplus.main.common.ApiResponse;
 import com.fiberplus.main.common.ResponseBuilder;
+import com.fiberplus.main.dtos.report.ReportCacheStats;
 import com.fiberplus.main.dtos.report.ReportDto;
+import com.fiberplus.main.dtos.report.ReportJobDto;
+import com.fiberplus.main.services.LiveDashboardService;
+import com.fiberplus.main.services.ReportCacheService;
+import com.fiberplus.main.services.ReportExportService;
+import com.fiberplus.main.services.ReportJobService;
+import com.fiberplus.main.services.ReportRollupService;
 import com.fiberplus.main.services.ReportService;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -23,9 +36,21 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 @Tag(name = "Reports", description = "API para generación de reportes con evidencias")
 public class ReportController {
     private final ReportService reportService;
+    private final ReportRollupService rollupService;
+    private final ReportCacheService reportCache;
+    private final ReportJobService reportJobService;
+    private final ReportExportService exportService;
+    private final LiveDashboardService liveDashboard;
     
-    public ReportController(ReportService reportService) {
+    public ReportController(ReportService reportService, ReportRollupService rollupService,
+            ReportCacheService reportCache, ReportJobService reportJobService,
+            ReportExportService exportService, LiveDashboardService liveDashboard) {
         this.reportService = reportService;
+        this.rollupService = rollupService;
+        this.reportCache = reportCache;
+        this.reportJobService = reportJobService;
+        this.exportService = exportService;
+        this.liveDashboard = liveDashboard;
     }
 
     @GetMapping("/generate")
@@ -62,9 +87,87 @@ public class ReportController {
     }
 
     @GetMapping("/dashboard")
-    @Operation(summary = "Dashboard general", description = "Estadísticas generales en tiempo real")
+    @Operation(summary = "Dashboard general", description = "Estadísticas generales precalculadas; también se publican en /topic/dashboard")
     public ResponseEntity<ApiResponse<ReportDto>> getDashboard() {
-        ReportDto dashboard = reportService.generateDashboard();
+        ReportDto dashboard = liveDashboard.getDashboard();
         return ResponseBuilder.ok("Dashboard generado", dashboard);
     }
+
+    @PostMapping("/rollups/backfill")
+    @Operation(summary = "Recalcular acumulados diarios", description = "Reconstruye report_rollups a partir de las completaciones existentes")
+    public ResponseEntity<ApiResponse<Integer>> backfillRollups() {
+        int rollups = rollupService.backfill();
+        return ResponseBuilder.ok("Acumulados diarios recalculados", rollups);
+    }
+
+    @GetMapping("/cache/stats")
+    @Operation(summary = "Estadísticas de la caché de reportes", description = "Aciertos, fallos, expulsiones e invalidaciones de la caché")
+    public ResponseEntity<ApiResponse<ReportCacheStats>> getCacheStats() {
+        return ResponseBuilder.ok("Estadísticas de caché obtenidas", reportCache.getStats());
+    }
+
+    @PostMapping("/jobs")
+    @Operation(summary = "Encolar reporte", description = "Genera el reporte en segundo plano y devuelve el id del trabajo. Solicitudes idénticas en curso comparten el mismo trabajo")
+    public ResponseEntity<ApiResponse<ReportJobDto>> submitReportJob(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate,
+            @RequestParam(defaultValue = "GENERAL") String reportType,
+            @RequestParam(required = false) String boardId,
+            @RequestParam(required = false) String userId) {
+        
+        ReportJobDto job = reportJobService.submit(reportType, boardId, userId, startDate, endDate);
+        return ResponseBuilder.build(HttpStatus.ACCEPTED.value(), "Reporte en proceso", job);
+    }
+
+    @GetMapping("/jobs/{jobId}")
+    @Operation(summary = "Estado de un trabajo de reporte")
+    public ResponseEntity<ApiResponse<ReportJobDto>> getReportJob(@PathVariable String jobId) {
+        return ResponseBuilder.ok("Estado del trabajo obtenido", reportJobService.getJob(jobId));
+    }
+
+    @GetMapping("/jobs/{jobId}/result")
+    @Operation(summary = "Resultado de un trabajo de reporte", description = "Devuelve el reporte si el trabajo ya finalizó")
+    public ResponseEntity<ApiResponse<ReportDto>> getReportJobResult(@PathVariable String jobId) {
+        return ResponseBuilder.ok("Reporte generado exitosamente", reportJobService.getResult(jobId));
+    }
+
+    @DeleteMapping("/jobs/{jobId}")
+    @Operation(summary = "Cancelar un trabajo de reporte")
+    public ResponseEntity<ApiResponse<ReportJobDto>> cancelReportJob(@PathVariable String jobId) {
+        return ResponseBuilder.ok("Trabajo de reporte cancelado", reportJobService.cancel(jobId));
+    }
+
+    @GetMapping("/export/csv")
+    @Operation(summary = "Exportar detalle en CSV", description = "Descarga las tareas completadas del rango como CSV, escrito a medida que se lee de la base")
+    public ResponseEntity<StreamingResponseBody> exportCsv(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate,
+            @RequestParam(required = false) String boardId,
+            @RequestParam(required = false) String userId) {
+        
+        return export(ReportExportService.Format.CSV, new MediaType("text", "csv"), "csv",
+                boardId, userId, startDate, endDate);
+    }
+
+    @GetMapping("/export/ndjson")
+    @Operation(summary = "Exportar detalle en NDJSON", description = "Descarga las tareas completadas del rango como un objeto JSON por línea")
+    public ResponseEntity<StreamingResponseBody> exportNdjson(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate,
+            @RequestParam(required = false) String boardId,
+            @RequestParam(required = false) String userId) {
+        
+        return export(ReportExportService.Format.NDJSON, MediaType.APPLICATION_NDJSON, "ndjson",
+                boardId, userId, startDate, endDate);
+    }
+
+    private ResponseEntity<StreamingResponseBody> export(ReportExportService.Format format, MediaType mediaType,
+            String extension, String boardId, String userId, LocalDateTime startDate, LocalDateTime endDate) {
+        StreamingResponseBody body = exportService.export(format, boardId, userId, startDate, endDate);
+        
+        return ResponseEntity.ok()
+                .contentType(mediaType)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"reporte-tareas." + extension + "\"")
+                .body(body);
+    }
 }
\ No newline at end of file
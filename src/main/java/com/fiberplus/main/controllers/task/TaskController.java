@@ -1,5 +1,11 @@
 package com.fiberplus.main.controllers.task;
 
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -7,13 +13,26 @@ import org.springframework.web.bind.annotation.*;
 
 import com.fiberplus.main.common.ApiResponse;
 import com.fiberplus.main.common.ResponseBuilder;
+import com.fiberplus.main.controllers.task.request.TaskBulkRequestDto;
 import com.fiberplus.main.controllers.task.request.TaskMoveDto;
+import com.fiberplus.main.controllers.task.request.TaskSearchDto;
+import com.fiberplus.main.dtos.TaskBulkItemResultDto;
+import com.fiberplus.main.dtos.TaskBulkResultDto;
 import com.fiberplus.main.dtos.TaskDto;
+import com.fiberplus.main.dtos.TaskImportJobDto;
+import com.fiberplus.main.dtos.TaskPageDto;
 import com.fiberplus.main.dtos.TaskUpdateDto;
+import com.fiberplus.main.enums.TaskBulkItemStatus;
 import com.fiberplus.main.services.BoardWebSocketService;
+import com.fiberplus.main.services.TaskImportService;
 import com.fiberplus.main.services.TaskService;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 
 @RestController
@@ -22,10 +41,13 @@ import org.springframework.http.ResponseEntity;
 public class TaskController {
 
     private final TaskService service;
+    private final TaskImportService importService;
     private final BoardWebSocketService _boardWebSocket;
 
-    public TaskController(TaskService service, BoardWebSocketService _boardWebSocket) {
+    public TaskController(TaskService service, TaskImportService importService,
+            BoardWebSocketService _boardWebSocket) {
         this.service = service;
+        this.importService = importService;
         this._boardWebSocket = _boardWebSocket;
     }
 
@@ -37,6 +59,69 @@ public class TaskController {
         return ResponseBuilder.created("Tarea creada exitosamente.", task);
     }
 
+    @PostMapping("/bulk")
+    @Operation(summary = "Aplicar operaciones en lote", description = "Mueve, actualiza o reasigna varias tareas con una "
+            + "sola escritura. Cada operación se valida por separado y el resultado indica su estado en el mismo orden "
+            + "de la petición. Se envía un solo mensaje por tablero afectado")
+    public ResponseEntity<ApiResponse<TaskBulkResultDto>> applyBulk(@Valid @RequestBody TaskBulkRequestDto request) {
+        TaskBulkResultDto result = service.applyBulk(request.getOperations());
+
+        Map<String, List<TaskDto>> boardTasks = new LinkedHashMap<>();
+        Map<String, List<String>> removedTaskIds = new LinkedHashMap<>();
+        for (TaskBulkItemResultDto item : result.getResults()) {
+            if (item.getStatus() != TaskBulkItemStatus.APPLIED) {
+                continue;
+            }
+            TaskDto task = item.getTask();
+            boardTasks.computeIfAbsent(task.getBoardId(), key -> new ArrayList<>()).add(task);
+            if (item.getPreviousBoardId() != null && !item.getPreviousBoardId().equals(task.getBoardId())) {
+                removedTaskIds.computeIfAbsent(item.getPreviousBoardId(), key -> new ArrayList<>()).add(task.getId());
+                boardTasks.computeIfAbsent(item.getPreviousBoardId(), key -> new ArrayList<>());
+            }
+        }
+        boardTasks.forEach((boardId, tasks) -> _boardWebSocket.notifyTasksBulkChanged(boardId, tasks,
+                removedTaskIds.getOrDefault(boardId, List.of())));
+
+        return ResponseBuilder.ok("Lote de tareas procesado", result);
+    }
+
+    @PostMapping(value = "/import", consumes = { "text/csv", MediaType.APPLICATION_NDJSON_VALUE })
+    @Operation(summary = "Importar tareas", description = "Recibe un CSV con encabezado (title, boardId, description, "
+            + "priority, assignedTo separado por |, dueDate, latitude, longitude) o NDJSON con los mismos campos. "
+            + "La importación corre en segundo plano y devuelve el id del trabajo")
+    public ResponseEntity<ApiResponse<TaskImportJobDto>> importTasks(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            HttpServletRequest request) throws IOException {
+        TaskImportService.Format format = MediaType.parseMediaType(contentType)
+                .isCompatibleWith(MediaType.APPLICATION_NDJSON)
+                        ? TaskImportService.Format.NDJSON
+                        : TaskImportService.Format.CSV;
+
+        TaskImportJobDto job = importService.submit(format, request.getInputStream());
+        return ResponseBuilder.build(HttpStatus.ACCEPTED.value(), "Importación en proceso", job);
+    }
+
+    @GetMapping("/import/{jobId}")
+    @Operation(summary = "Estado de una importación", description = "Avance, conteos y primeras filas rechazadas")
+    public ResponseEntity<ApiResponse<TaskImportJobDto>> getImportJob(@PathVariable String jobId) {
+        return ResponseBuilder.ok("Estado de la importación obtenido", importService.getJob(jobId));
+    }
+
+    @DeleteMapping("/import/{jobId}")
+    @Operation(summary = "Cancelar una importación", description = "Los lotes ya insertados se conservan")
+    public ResponseEntity<ApiResponse<TaskImportJobDto>> cancelImportJob(@PathVariable String jobId) {
+        return ResponseBuilder.ok("Importación cancelada", importService.cancel(jobId));
+    }
+
+    @GetMapping("/search")
+    @Operation(summary = "Buscar tareas", description = "Filtra por tablero, estado, prioridad, asignado y rangos de "
+            + "fechas de vencimiento y creación. Paginación por cursor: se envía como cursor el nextCursor de la "
+            + "página anterior con los mismos filtros")
+    public ResponseEntity<ApiResponse<TaskPageDto>> searchTasks(@ParameterObject TaskSearchDto search) {
+        TaskPageDto page = service.searchTasks(search);
+        return ResponseBuilder.ok("Búsqueda de tareas realizada exitosamente", page);
+    }
+
     @PatchMapping("/{id}")
     @Operation(summary = "Actualizar una tarea", description = "Actualiza los campos de una tarea. Se pueden actualizar uno o varios campos.")
     public ResponseEntity<ApiResponse<TaskDto>> updateTask(
@@ -0,0 +1,39 @@
+package com.fiberplus.main.controllers.task.request;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.fiberplus.main.enums.TaskBulkAction;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Una operación del lote. MOVE usa toBoardId (y fromBoardId como precondición
+ * opcional), ASSIGN reemplaza assignedTo y UPDATE cambia los campos no nulos.
+ */
+@Setter
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskBulkOperationDto {
+    @NotNull(message = "El tipo de operación es requerido")
+    private TaskBulkAction type;
+
+    @NotBlank(message = "El ID de la tarea es requerido")
+    private String taskId;
+
+    private String fromBoardId;
+    private String toBoardId;
+
+    private List<String> assignedTo;
+
+    private String title;
+    private String description;
+    private String priority;
+    private LocalDateTime dueDate;
+}
@@ -0,0 +1,21 @@
+package com.fiberplus.main.controllers.task.request;
+
+import java.util.List;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Setter
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskBulkRequestDto {
+    @NotEmpty(message = "Se requiere al menos una operación")
+    @Size(max = 500, message = "Un lote admite como máximo 500 operaciones")
+    private List<@Valid TaskBulkOperationDto> operations;
+}
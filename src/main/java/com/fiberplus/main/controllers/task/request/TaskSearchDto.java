@@ -0,0 +1,42 @@
+package com.fiberplus.main.controllers.task.request;
+
+import java.time.LocalDateTime;
+
+import org.springframework.format.annotation.DateTimeFormat;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Setter
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskSearchDto {
+    private String boardId;
+    private String status;
+    private String priority;
+    private String assignedTo;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime dueFrom;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime dueTo;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime createdFrom;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime createdTo;
+
+    // createdAt (por defecto, más recientes primero) o dueDate (más próximas primero)
+    private String sort = "createdAt";
+
+    // asc o desc; sin valor se usa el sentido por defecto del campo de orden
+    private String direction;
+
+    private String cursor;
+    private int pageSize = 50;
+}
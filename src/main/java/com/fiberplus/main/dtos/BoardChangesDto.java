@@ -0,0 +1,26 @@
+package com.fiberplus.main.dtos;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Cambios de tableros y tareas con secuencia mayor a {@code since}. El cliente
+ * guarda {@code nextSince} y lo envía en la siguiente sincronización; si
+ * {@code hasMore} es verdadero debe pedir de nuevo de inmediato.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BoardChangesDto {
+    private long since;
+    private long nextSince;
+    private boolean hasMore;
+    private List<BoardDto> boards;
+    private List<TaskDto> tasks;
+    private List<ChangeTombstoneDto> tombstones;
+}
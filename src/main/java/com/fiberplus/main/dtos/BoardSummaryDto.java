@@ -0,0 +1,27 @@
+package com.fiberplus.main.dtos;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BoardSummaryDto {
+    private String id;
+    private String title;
+    private String createdBy;
+    private String status;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private int totalTasks;
+    private int openTasks;
+    private int closedTasks;
+    private int overdueTasks;
+    private Map<String, Integer> tasksByPriority;
+}
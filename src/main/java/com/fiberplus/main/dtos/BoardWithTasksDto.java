@@ -19,5 +19,6 @@ public class BoardWithTasksDto {
     private String status;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
-    private List<TaskDto> tasks;    
+    private List<TaskDto> tasks;
+    private String nextCursor;
 }
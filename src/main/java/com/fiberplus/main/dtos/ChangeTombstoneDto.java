@@ -0,0 +1,20 @@
+package com.fiberplus.main.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Marca de eliminación dentro de un lote de cambios: el cliente debe descartar la
+ * entidad {@code id} del tipo {@code entityType} (BOARD o TASK).
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChangeTombstoneDto {
+    private String entityType;
+    private String id;
+    private long changeSeq;
+}
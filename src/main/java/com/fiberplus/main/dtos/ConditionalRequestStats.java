@@ -0,0 +1,19 @@
+package com.fiberplus.main.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.SuperBuilder;
+
+@Setter
+@Getter
+@SuperBuilder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ConditionalRequestStats {
+    private String resource;
+    private long requests;
+    private long notModified;
+    private double hitRate;
+}
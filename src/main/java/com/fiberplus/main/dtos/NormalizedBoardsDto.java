@@ -0,0 +1,22 @@
+package com.fiberplus.main.dtos;
+
+import java.util.Map;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Formato normalizado de tableros con tareas: las tareas solo traen los ids de sus
+ * asignados en {@code assignedTo} y cada usuario aparece una única vez en {@code users}.
+ * Los mapas conservan el orden de los tableros.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NormalizedBoardsDto {
+    private Map<String, BoardWithTasksDto> boards;
+    private Map<String, UserDto> users;
+}
@@ -0,0 +1,26 @@
+package com.fiberplus.main.dtos;
+
+import com.fiberplus.main.enums.TaskBulkItemStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Resultado de una operación del lote, en la misma posición que en la petición.
+ * {@code task} es el estado final de la tarea cuando se aplicó o no hubo cambios;
+ * {@code previousBoardId} es el tablero en el que estaba antes del lote.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskBulkItemResultDto {
+    private int index;
+    private String taskId;
+    private TaskBulkItemStatus status;
+    private String message;
+    private String previousBoardId;
+    private TaskDto task;
+}
@@ -0,0 +1,18 @@
+package com.fiberplus.main.dtos;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskBulkResultDto {
+    private int applied;
+    private int failed;
+    private List<TaskBulkItemResultDto> results;
+}
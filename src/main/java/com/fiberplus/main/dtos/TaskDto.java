@@ -3,6 +3,9 @@ package com.fiberplus.main.dtos;
 import java.time.LocalDateTime;
 import java.util.List;
 
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.fiberplus.main.common.TaskFields;
+
 import jakarta.validation.constraints.NotBlank;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -15,6 +18,7 @@ import lombok.experimental.SuperBuilder;
 @AllArgsConstructor
 @NoArgsConstructor
 @SuperBuilder
+@JsonFilter(TaskFields.FILTER_ID)
 public class TaskDto extends BaseDto {
     @NotBlank(message = "El título de la tarea no puede estar vacío.")
     private String title;
@@ -38,4 +42,6 @@ public class TaskDto extends BaseDto {
     private String status;
     
     private Integer position; 
+
+    private String rank;
 }
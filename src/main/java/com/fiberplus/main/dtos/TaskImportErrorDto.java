@@ -0,0 +1,15 @@
+package com.fiberplus.main.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskImportErrorDto {
+    private int line;
+    private String message;
+}
@@ -0,0 +1,35 @@
+package com.fiberplus.main.dtos;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.fiberplus.main.enums.ImportJobStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.SuperBuilder;
+
+/**
+ * Estado y avance de una importación. {@code errors} guarda solo las primeras filas
+ * rechazadas; {@code rejectedRows} las cuenta todas.
+ */
+@Setter
+@Getter
+@SuperBuilder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskImportJobDto {
+    private String jobId;
+    private ImportJobStatus status;
+    private String format;
+    private long processedRows;
+    private long importedTasks;
+    private long rejectedRows;
+    private List<TaskImportErrorDto> errors;
+    private LocalDateTime createdAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private String error;
+}
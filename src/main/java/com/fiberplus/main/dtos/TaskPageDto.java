@@ -0,0 +1,21 @@
+package com.fiberplus.main.dtos;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Página de tareas. {@code nextCursor} es un cursor opaco que se envía tal cual para
+ * pedir la página siguiente; es nulo cuando no hay más páginas.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskPageDto {
+    private List<TaskDto> tasks;
+    private String nextCursor;
+}
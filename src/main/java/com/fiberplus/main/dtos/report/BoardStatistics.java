@@ -17,4 +17,7 @@ public class BoardStatistics {
     private int totalTasks;
     private int completedTasks;
     private double completionRate;
+    private double averageCompletionTime;
+    private double medianCompletionTime;
+    private double p90CompletionTime;
 }
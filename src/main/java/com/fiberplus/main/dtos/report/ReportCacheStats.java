@@ -0,0 +1,23 @@
+package com.fiberplus.main.dtos.report;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.SuperBuilder;
+
+@Setter
+@Getter
+@SuperBuilder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReportCacheStats {
+    private int size;
+    private int maxEntries;
+    private long ttlSeconds;
+    private long hits;
+    private long misses;
+    private long evictions;
+    private long invalidations;
+    private double hitRate;
+}
@@ -25,4 +25,6 @@ public class ReportDto {
 
     private List<AvailableUser> availableUsers;
     private List<AvailableBoard> availableBoards;
+
+    private List<String> incompleteSections;
 }
@@ -0,0 +1,30 @@
+package com.fiberplus.main.dtos.report;
+
+import java.time.LocalDateTime;
+
+import com.fiberplus.main.enums.ReportJobStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.SuperBuilder;
+
+@Setter
+@Getter
+@SuperBuilder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReportJobDto {
+    private String jobId;
+    private ReportJobStatus status;
+    private String reportType;
+    private String boardId;
+    private String userId;
+    private LocalDateTime startDate;
+    private LocalDateTime endDate;
+    private LocalDateTime createdAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private String error;
+}
@@ -17,4 +17,6 @@ public class UserPerformance {
     private int tasksCompleted;
     private int evidencesProvided;
     private double averageCompletionTime;
+    private double medianCompletionTime;
+    private double p90CompletionTime;
 }
@@ -19,4 +19,6 @@ public class BoardEntity extends BaseEntity {
     private String createdBy;
     private String status;
 
+    // Número de la secuencia global de cambios de la última escritura
+    private Long changeSeq;
 }
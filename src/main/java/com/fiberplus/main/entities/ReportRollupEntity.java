@@ -0,0 +1,40 @@
+package com.fiberplus.main.entities;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.SuperBuilder;
+
+/**
+ * Acumulado diario de completaciones por (día, tablero, usuario que completa).
+ * El id es la clave compuesta, así cada completación es un único $inc con upsert.
+ * {@code hoursHistogram} cuenta completaciones por bucket de horas de resolución
+ * (ver {@code CompletionStats.bucketOf}) para estimar mediana y p90 al sumar días.
+ */
+@Document(collection = "report_rollups")
+@Setter
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@SuperBuilder
+public class ReportRollupEntity extends BaseEntity {
+    private LocalDate day;
+    private String boardId;
+    private String userId;
+    private long completedCount;
+    private long evidenceCount;
+    private long completionHours;
+    private Long minHours;
+    private Long maxHours;
+    private Map<String, Long> hoursHistogram;
+
+    public static String rollupId(LocalDate day, String boardId, String userId) {
+        return day + ":" + boardId + ":" + userId;
+    }
+}
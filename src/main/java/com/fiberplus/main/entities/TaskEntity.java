@@ -29,4 +29,10 @@ public class TaskEntity extends BaseEntity {
 
     private String status; 
     private LocalDateTime closedAt; 
+
+    // Clave de orden fraccionario dentro del tablero (ver RankKeys)
+    private String rank;
+
+    // Número de la secuencia global de cambios de la última escritura
+    private Long changeSeq;
 }
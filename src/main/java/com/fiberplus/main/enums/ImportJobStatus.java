@@ -0,0 +1,9 @@
+package com.fiberplus.main.enums;
+
+public enum ImportJobStatus {
+    PENDING,
+    RUNNING,
+    COMPLETED,
+    FAILED,
+    CANCELLED
+}
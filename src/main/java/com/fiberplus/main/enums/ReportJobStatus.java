@@ -0,0 +1,9 @@
+package com.fiberplus.main.enums;
+
+public enum ReportJobStatus {
+    PENDING,
+    RUNNING,
+    COMPLETED,
+    FAILED,
+    CANCELLED
+}
@@ -0,0 +1,7 @@
+package com.fiberplus.main.enums;
+
+public enum TaskBulkAction {
+    MOVE,
+    UPDATE,
+    ASSIGN
+}
@@ -0,0 +1,9 @@
+package com.fiberplus.main.enums;
+
+public enum TaskBulkItemStatus {
+    APPLIED,
+    UNCHANGED,
+    NOT_FOUND,
+    CONFLICT,
+    INVALID
+}
@@ -0,0 +1,13 @@
+package com.fiberplus.main.events;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Se publica después de crear, actualizar o desactivar un tablero.
+ */
+@Getter
+@AllArgsConstructor
+public class BoardChangedEvent {
+    private final String boardId;
+}
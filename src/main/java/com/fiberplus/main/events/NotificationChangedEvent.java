@@ -0,0 +1,13 @@
+package com.fiberplus.main.events;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Se publica después de crear, marcar como leída o eliminar notificaciones de un usuario.
+ */
+@Getter
+@AllArgsConstructor
+public class NotificationChangedEvent {
+    private final String userId;
+}
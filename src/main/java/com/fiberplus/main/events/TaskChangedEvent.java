@@ -0,0 +1,35 @@
+package com.fiberplus.main.events;
+
+import java.util.Set;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Se publica después de persistir un cambio sobre una tarea. Lleva los tableros y
+ * usuarios afectados para que las cachés invaliden solo lo que corresponde.
+ */
+@Getter
+@AllArgsConstructor
+public class TaskChangedEvent {
+    public enum Type { CREATED, UPDATED, MOVED, COMPLETED, REORDERED }
+
+    private final String taskId;
+    private final Type type;
+    private final Set<String> boardIds;
+    private final Set<String> userIds;
+
+    /**
+     * Crear o mover una tarea cambia los conteos por tablero que aparecen en todos los reportes.
+     */
+    public boolean changesBoardCounts() {
+        return type == Type.CREATED || type == Type.MOVED;
+    }
+
+    /**
+     * Reordenar tarjetas solo cambia su posición, que no aparece en ningún reporte.
+     */
+    public boolean changesReports() {
+        return type != Type.REORDERED;
+    }
+}
@@ -0,0 +1,14 @@
+package com.fiberplus.main.events;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Se publica después de actualizar los datos visibles de un usuario (nombre, foto,
+ * puesto) o de eliminarlo.
+ */
+@Getter
+@AllArgsConstructor
+public class UserChangedEvent {
+    private final String userId;
+}
@@ -0,0 +1,41 @@
+package com.fiberplus.main.handler;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.AbstractMappingJacksonResponseBodyAdvice;
+
+import com.fiberplus.main.common.SparseTaskFields;
+import com.fiberplus.main.common.TaskFields;
+
+/**
+ * Aplica el filtro de {@code fields=} a las respuestas de los endpoints marcados con
+ * {@link SparseTaskFields}, sin cambiar el tipo que devuelven los controladores.
+ * Los campos ya se validaron en el controlador antes de consultar la base.
+ */
+@RestControllerAdvice
+public class SparseTaskFieldsAdvice extends AbstractMappingJacksonResponseBodyAdvice {
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return super.supports(returnType, converterType) && returnType.hasMethodAnnotation(SparseTaskFields.class);
+    }
+
+    @Override
+    protected void beforeBodyWriteInternal(MappingJacksonValue bodyContainer, MediaType contentType,
+            MethodParameter returnType, ServerHttpRequest request, ServerHttpResponse response) {
+        if (!(request instanceof ServletServerHttpRequest servletRequest)) {
+            return;
+        }
+
+        TaskFields fields = TaskFields.parse(servletRequest.getServletRequest().getParameter("fields"));
+        if (!fields.isAll()) {
+            bodyContainer.setFilters(fields.filterProvider());
+        }
+    }
+}
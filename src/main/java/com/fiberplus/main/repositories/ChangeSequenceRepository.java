@@ -0,0 +1,50 @@
+package com.fiberplus.main.repositories;
+
+import org.bson.Document;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Contador global de cambios en la colección change_sequences, incrementado con
+ * un findAndModify atómico.
+ */
+@Repository
+public class ChangeSequenceRepository {
+    private static final String CHANGE_SEQUENCES = "change_sequences";
+    private static final String GLOBAL = "global";
+
+    private final MongoTemplate mongoTemplate;
+
+    public ChangeSequenceRepository(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    public long next() {
+        return next(1);
+    }
+
+    /**
+     * Reserva {@code count} números consecutivos y devuelve el último.
+     */
+    public long next(long count) {
+        Document counter = mongoTemplate.findAndModify(
+                new Query(Criteria.where("_id").is(GLOBAL)),
+                new Update().inc("value", count),
+                FindAndModifyOptions.options().upsert(true).returnNew(true),
+                Document.class,
+                CHANGE_SEQUENCES);
+
+        return ((Number) counter.get("value")).longValue();
+    }
+
+    public long current() {
+        Document counter = mongoTemplate.findOne(
+                new Query(Criteria.where("_id").is(GLOBAL)), Document.class, CHANGE_SEQUENCES);
+
+        return counter != null ? ((Number) counter.get("value")).longValue() : 0;
+    }
+}
@@ -1,7 +1,10 @@
 package com.fiberplus.main.repositories;
 
+import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Range;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.stereotype.Repository;
 
@@ -10,4 +13,8 @@ import com.fiberplus.main.entities.BoardEntity;
 @Repository
 public interface IBoardRepository extends MongoRepository<BoardEntity, String>{
     Optional<BoardEntity> findByTitle(String title);
+
+    List<BoardEntity> findByStatus(String status);
+
+    List<BoardEntity> findByChangeSeqBetweenOrderByChangeSeqAsc(Range<Long> changeSeq, Limit limit);
 }
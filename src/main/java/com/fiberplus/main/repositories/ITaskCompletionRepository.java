@@ -4,6 +4,7 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Stream;
 
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.stereotype.Repository;
@@ -17,5 +18,7 @@ public interface ITaskCompletionRepository extends MongoRepository<TaskCompletio
     List<TaskCompletionEntity> findByCompletedBy(String userId);
     List<TaskCompletionEntity> findByCompletedAtBetween(LocalDateTime start, LocalDateTime end);
     Optional<TaskCompletionEntity> findFirstByTaskIdOrderByCompletedAtDesc(String taskId);
+    Optional<TaskCompletionEntity> findFirstByTaskIdOrderByCreatedAtAsc(String taskId);
     List<TaskCompletionEntity> findByTaskIdIn(Set<String> taskIds);
+    Stream<TaskCompletionEntity> streamAllBy();
 }
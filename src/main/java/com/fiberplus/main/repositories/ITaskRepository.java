@@ -1,14 +1,28 @@
 package com.fiberplus.main.repositories;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Range;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import com.fiberplus.main.entities.TaskEntity;
 
 @Repository
 public interface ITaskRepository extends MongoRepository<TaskEntity, String> {
-    List<TaskEntity> findByBoardId(String id);
-    List<TaskEntity> findByBoardIdIn(List<String> boardIds);
+    // Tareas en el orden del tablero, sobre el índice (boardId, rank, _id)
+    List<TaskEntity> findByBoardIdOrderByRankAscIdAsc(String id);
+    List<TaskEntity> findByBoardIdInOrderByRankAscIdAsc(List<String> boardIds);
+
+    Stream<TaskEntity> streamByBoardIdInOrderByBoardIdAscRankAscIdAsc(Collection<String> boardIds);
+
+    // Sincronización incremental sobre el índice de changeSeq
+    List<TaskEntity> findByChangeSeqBetweenOrderByChangeSeqAsc(Range<Long> changeSeq, Limit limit);
+
+    @Query(value = "{ 'status': ?0 }", fields = "{ 'boardId': 1, 'createdAt': 1, 'closedAt': 1 }")
+    List<TaskEntity> findLifecycleDatesByStatus(String status);
 }
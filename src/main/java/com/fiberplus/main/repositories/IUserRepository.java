@@ -1,8 +1,10 @@
 package com.fiberplus.main.repositories;
 
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import com.fiberplus.main.entities.UserEntity;
@@ -17,4 +19,7 @@ public interface IUserRepository extends MongoRepository<UserEntity, String> {
     
     long countByRolesContaining(String role);
 
+    @Query(value = "{}", fields = "{ '_id': 1 }")
+    List<UserEntity> findAllIds();
+
 }
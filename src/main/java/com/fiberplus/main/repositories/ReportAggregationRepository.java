@@ -0,0 +1,177 @@
+package com.fiberplus.main.repositories;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.bson.Document;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.ArithmeticOperators;
+import org.springframework.data.mongodb.core.aggregation.ArrayOperators;
+import org.springframework.data.mongodb.core.aggregation.ConditionalOperators;
+import org.springframework.data.mongodb.core.aggregation.LookupOperation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Repository;
+
+import com.fiberplus.main.dtos.report.BoardStatistics;
+import com.fiberplus.main.entities.TaskEntity;
+
+/**
+ * Consultas de reportes resueltas dentro de MongoDB con pipelines de agregación.
+ * El alcance del reporte (todas las tareas, un usuario o un tablero) se recibe como
+ * {@link Criteria} y se aplica en el primer $match de cada pipeline.
+ */
+@Repository
+public class ReportAggregationRepository {
+    private static final String TASKS = "tasks";
+    private static final String BOARDS = "boards";
+    private static final String TASK_COMPLETIONS = "task_completions";
+    private static final String CLOSED_STATUS = "CERRADO";
+    private static final long MILLIS_PER_HOUR = 3_600_000L;
+
+    private final MongoTemplate mongoTemplate;
+
+    public ReportAggregationRepository(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    /**
+     * Tareas cerradas dentro del rango, sin traer el resto de la colección.
+     */
+    public List<TaskEntity> findCompletedTasks(Criteria scope, LocalDateTime start, LocalDateTime end) {
+        Query query = new Query(inScope(scope, completedBetween(start, end)));
+        return mongoTemplate.find(query, TaskEntity.class, TASKS);
+    }
+
+    /**
+     * Igual que {@link #findCompletedTasks}, pero leyendo desde un cursor y en el
+     * orden del detalle del reporte. El stream debe cerrarse.
+     */
+    public Stream<TaskEntity> streamCompletedTasks(Criteria scope, LocalDateTime start, LocalDateTime end) {
+        Query query = new Query(inScope(scope, completedBetween(start, end)))
+                .with(Sort.by(Sort.Direction.DESC, "createdAt"));
+        return mongoTemplate.stream(query, TaskEntity.class, TASKS);
+    }
+
+    /**
+     * Total y completadas por tablero en un solo $group, con el nombre del tablero vía $lookup.
+     */
+    public List<BoardStatistics> aggregateBoardStatistics(Criteria scope, LocalDateTime start, LocalDateTime end) {
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.match(scope),
+                Aggregation.group("boardId")
+                        .count().as("totalTasks")
+                        .sum(ConditionalOperators.when(completedBetween(start, end)).then(1).otherwise(0))
+                        .as("completedTasks"),
+                Aggregation.lookup(BOARDS, "_id", "_id", "board"));
+
+        return mongoTemplate.aggregate(aggregation, TASKS, Document.class)
+                .getMappedResults()
+                .stream()
+                .map(doc -> {
+                    int total = intValue(doc, "totalTasks");
+                    int completed = intValue(doc, "completedTasks");
+                    Document board = firstJoined(doc, "board");
+
+                    return BoardStatistics.builder()
+                            .boardId(doc.getString("_id"))
+                            .boardName(board != null ? board.getString("title") : "Tablero desconocido")
+                            .totalTasks(total)
+                            .completedTasks(completed)
+                            .completionRate(total == 0 ? 0 : (double) completed / total * 100)
+                            .build();
+                })
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Cantidad de tareas por tablero en un solo $group, sin materializar las tareas.
+     */
+    public Map<String, Integer> countTasksByBoard(Criteria scope) {
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.match(scope),
+                Aggregation.group("boardId").count().as("totalTasks"));
+
+        Map<String, Integer> counts = new HashMap<>();
+        mongoTemplate.aggregate(aggregation, TASKS, Document.class)
+                .getMappedResults()
+                .forEach(doc -> counts.put(doc.getString("_id"), intValue(doc, "totalTasks")));
+        return counts;
+    }
+
+    /**
+     * Una fila por tarea cerrada en el rango con su primera completación, la que la
+     * cerró, proyectada a lo mínimo: quién completó, tablero, evidencias y horas
+     * completas de resolución (igual que {@code Duration.toHours()}). Es lo mismo que
+     * suman los acumulados diarios. El stream debe cerrarse.
+     */
+    public Stream<CompletionTime> streamCompletionTimes(Criteria scope, LocalDateTime start, LocalDateTime end) {
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.match(inScope(scope, completedBetween(start, end))),
+                LookupOperation.newLookup()
+                        .from(TASK_COMPLETIONS)
+                        .localField("_id")
+                        .foreignField("taskId")
+                        .pipeline(Aggregation.sort(Sort.Direction.ASC, "createdAt"), Aggregation.limit(1))
+                        .as("completion"),
+                Aggregation.unwind("completion"),
+                Aggregation.project()
+                        .andExclude("_id")
+                        .and("completion.completedBy").as("userId")
+                        .andInclude("boardId")
+                        .and(ArrayOperators.Size.lengthOfArray(
+                                ConditionalOperators.ifNull("completion.imageUrls").then(List.of())))
+                        .as("evidences")
+                        .and(ArithmeticOperators.valueOf(
+                                ArithmeticOperators.valueOf(
+                                        ArithmeticOperators.valueOf("completion.completedAt").subtract("createdAt"))
+                                        .divideBy(MILLIS_PER_HOUR))
+                                .trunc())
+                        .as("hours"));
+
+        return mongoTemplate.aggregateStream(aggregation, TASKS, Document.class)
+                .map(doc -> {
+                    Number hours = (Number) doc.get("hours");
+                    return new CompletionTime(doc.getString("userId"), doc.getString("boardId"),
+                            intValue(doc, "evidences"), hours != null ? hours.longValue() : null);
+                });
+    }
+
+    public record CompletionTime(String userId, String boardId, int evidences, Long hours) {
+    }
+
+    private Criteria completedBetween(LocalDateTime start, LocalDateTime end) {
+        return Criteria.where("status").is(CLOSED_STATUS)
+                .and("closedAt").gte(toDate(start)).lte(toDate(end));
+    }
+
+    private Criteria inScope(Criteria scope, Criteria criteria) {
+        return new Criteria().andOperator(scope, criteria);
+    }
+
+    /**
+     * Las fechas se pasan como {@link Date} con la zona del sistema, que es como
+     * Spring Data persiste los {@link LocalDateTime} de las entidades.
+     */
+    private Date toDate(LocalDateTime dateTime) {
+        return Date.from(dateTime.atZone(ZoneId.systemDefault()).toInstant());
+    }
+
+    private Document firstJoined(Document doc, String field) {
+        List<Document> joined = doc.getList(field, Document.class);
+        return joined == null || joined.isEmpty() ? null : joined.get(0);
+    }
+
+    private int intValue(Document doc, String field) {
+        Number value = (Number) doc.get(field);
+        return value != null ? value.intValue() : 0;
+    }
+}
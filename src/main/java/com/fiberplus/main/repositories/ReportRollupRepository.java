@@ -0,0 +1,100 @@
+package com.fiberplus.main.repositories;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Repository;
+
+import com.fiberplus.main.entities.ReportRollupEntity;
+
+@Repository
+public class ReportRollupRepository {
+    private final MongoTemplate mongoTemplate;
+
+    public ReportRollupRepository(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    /**
+     * Suma una completación al acumulado del día con un único upsert atómico.
+     */
+    public void increment(LocalDate day, String boardId, String userId, long evidences, long hours,
+            int hoursBucket) {
+        Query query = new Query(Criteria.where("id").is(ReportRollupEntity.rollupId(day, boardId, userId)));
+
+        Update update = new Update()
+                .setOnInsert("day", day)
+                .setOnInsert("boardId", boardId)
+                .setOnInsert("userId", userId)
+                .setOnInsert("createdAt", LocalDateTime.now())
+                .inc("completedCount", 1)
+                .inc("evidenceCount", evidences)
+                .inc("completionHours", hours)
+                .min("minHours", hours)
+                .max("maxHours", hours)
+                .inc("hoursHistogram." + hoursBucket, 1)
+                .set("updatedAt", LocalDateTime.now());
+
+        mongoTemplate.upsert(query, update, ReportRollupEntity.class);
+    }
+
+    /**
+     * Pasa una completación del acumulado de un tablero al de otro, cuando una tarea
+     * cerrada cambia de tablero. El mínimo y el máximo del origen no se recalculan; un
+     * acumulado que queda sin completaciones se borra.
+     */
+    public void transfer(LocalDate day, String fromBoardId, String toBoardId, String userId, long evidences,
+            long hours, int hoursBucket) {
+        Query from = new Query(Criteria.where("id").is(ReportRollupEntity.rollupId(day, fromBoardId, userId)));
+        mongoTemplate.updateFirst(from, new Update()
+                .inc("completedCount", -1)
+                .inc("evidenceCount", -evidences)
+                .inc("completionHours", -hours)
+                .inc("hoursHistogram." + hoursBucket, -1)
+                .set("updatedAt", LocalDateTime.now()), ReportRollupEntity.class);
+        mongoTemplate.remove(new Query(Criteria.where("id").is(ReportRollupEntity.rollupId(day, fromBoardId, userId))
+                .and("completedCount").lte(0)), ReportRollupEntity.class);
+
+        increment(day, toBoardId, userId, evidences, hours, hoursBucket);
+    }
+
+    /**
+     * Acumulados entre dos días, ambos inclusive, opcionalmente de un solo tablero.
+     */
+    public List<ReportRollupEntity> findBetween(LocalDate fromDay, LocalDate toDay, String boardId) {
+        Criteria criteria = Criteria.where("day").gte(fromDay).lte(toDay);
+        if (boardId != null) {
+            criteria = criteria.and("boardId").is(boardId);
+        }
+        return mongoTemplate.find(new Query(criteria), ReportRollupEntity.class);
+    }
+
+    /**
+     * Reemplaza todos los acumulados por los recalculados, calculados en {@code recalculatedAt}.
+     * Cada documento se reescribe con un upsert por clave, así los reportes nunca ven la
+     * colección vacía; después se borran solo los que no se tocaron desde entonces, que
+     * son claves que ya no existen (los $inc concurrentes actualizan {@code updatedAt}).
+     */
+    public void replaceAll(Collection<ReportRollupEntity> rollups, LocalDateTime recalculatedAt) {
+        if (!rollups.isEmpty()) {
+            BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED,
+                    ReportRollupEntity.class);
+            for (ReportRollupEntity rollup : rollups) {
+                rollup.setUpdatedAt(recalculatedAt);
+                bulk.replaceOne(new Query(Criteria.where("id").is(rollup.getId())), rollup,
+                        FindAndReplaceOptions.options().upsert());
+            }
+            bulk.execute();
+        }
+
+        mongoTemplate.remove(new Query(Criteria.where("updatedAt").lt(recalculatedAt)), ReportRollupEntity.class);
+    }
+}
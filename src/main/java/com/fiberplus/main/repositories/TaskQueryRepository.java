@@ -0,0 +1,287 @@
+package com.fiberplus.main.repositories;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+
+import org.bson.Document;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.ConditionalOperators;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Repository;
+
+import com.fiberplus.main.entities.TaskEntity;
+
+/**
+ * Lecturas de tareas con proyección dinámica: solo viajan desde MongoDB los campos
+ * indicados, además del _id. Los campos no proyectados quedan en null en la entidad.
+ */
+@Repository
+public class TaskQueryRepository {
+    // Índices de la búsqueda: igualdad (tablero o asignado) + campo de orden + _id
+    public static final String INDEX_BOARD_CREATED = "board_created";
+    public static final String INDEX_BOARD_DUE = "board_due";
+    public static final String INDEX_ASSIGNEE_CREATED = "assignee_created";
+    public static final String INDEX_ASSIGNEE_DUE = "assignee_due";
+    public static final String INDEX_CREATED = "created_id";
+    public static final String INDEX_DUE = "due_id";
+    public static final String INDEX_BOARD_RANK = "board_rank";
+
+    public static final String SORT_CREATED_AT = "createdAt";
+    public static final String SORT_DUE_DATE = "dueDate";
+
+    private static final String TASKS = "tasks";
+    private static final String CLOSED_STATUS = "CERRADO";
+    // Cota inferior para dueDate: en las expresiones de agregación null y ausente son menores que cualquier fecha
+    private static final Date NO_DUE_DATE = new Date(0);
+    private static final Date NEVER = Date.from(LocalDateTime.of(9999, 1, 1, 0, 0).atZone(ZoneId.systemDefault()).toInstant());
+
+    private final MongoTemplate mongoTemplate;
+
+    public TaskQueryRepository(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    public List<TaskEntity> findByBoardIds(Collection<String> boardIds, Collection<String> fields) {
+        Query query = new Query(Criteria.where("boardId").in(boardIds))
+                .with(Sort.by(Sort.Direction.ASC, "rank", "_id"));
+        return find(query, fields);
+    }
+
+    /**
+     * Página en el orden del tablero, por clave sobre (rank, _id) y el índice
+     * {@value #INDEX_BOARD_RANK}; sin {@code after} es la primera. Las tareas sin rank
+     * van primero, como en el resto de las consultas ordenadas por rank. Con
+     * {@code fields} null se traen todos los campos.
+     */
+    public List<TaskEntity> findPage(String boardId, RankCursor after, int limit, Collection<String> fields) {
+        Criteria criteria = Criteria.where("boardId").is(boardId);
+        if (after != null) {
+            criteria = after.rank() == null
+                    ? criteria.orOperator(
+                            Criteria.where("rank").is(null).and("_id").gt(after.id()),
+                            Criteria.where("rank").ne(null))
+                    : criteria.orOperator(
+                            Criteria.where("rank").is(after.rank()).and("_id").gt(after.id()),
+                            Criteria.where("rank").gt(after.rank()));
+        }
+        Query query = new Query(criteria)
+                .with(Sort.by(Sort.Direction.ASC, "rank", "_id"))
+                .limit(limit)
+                .withHint(INDEX_BOARD_RANK);
+        return find(query, fields);
+    }
+
+    /**
+     * Rank de la última tarea del tablero, o null si no tiene tareas con rank.
+     */
+    public String findLastRank(String boardId) {
+        Query query = new Query(Criteria.where("boardId").is(boardId).and("rank").ne(null))
+                .with(Sort.by(Sort.Direction.DESC, "rank", "_id"))
+                .limit(1);
+        List<TaskEntity> last = find(query, List.of("rank"));
+        return last.isEmpty() ? null : last.get(0).getRank();
+    }
+
+    /**
+     * Las tareas que quedarían antes y después de la posición {@code index} del tablero,
+     * sin contar a {@code excludedTaskId}: la anterior es null en la posición 0 y la
+     * siguiente es null al final. Solo se leen los ranks.
+     */
+    public List<TaskEntity> findRankNeighbors(String boardId, String excludedTaskId, int index) {
+        Query query = new Query(Criteria.where("boardId").is(boardId).and("_id").ne(excludedTaskId))
+                .with(Sort.by(Sort.Direction.ASC, "rank", "_id"))
+                .skip(Math.max(0, index - 1))
+                .limit(index == 0 ? 1 : 2);
+        List<TaskEntity> found = find(query, List.of("rank"));
+
+        List<TaskEntity> neighbors = new ArrayList<>(2);
+        if (index == 0) {
+            neighbors.add(null);
+            neighbors.add(found.isEmpty() ? null : found.get(0));
+        } else {
+            neighbors.add(found.isEmpty() ? null : found.get(0));
+            neighbors.add(found.size() < 2 ? null : found.get(1));
+        }
+        return neighbors;
+    }
+
+    /**
+     * Id y rank de todas las tareas del tablero, en su orden actual.
+     */
+    public List<TaskEntity> findRanks(String boardId) {
+        Query query = new Query(Criteria.where("boardId").is(boardId))
+                .with(Sort.by(Sort.Direction.ASC, "rank", "_id"));
+        return find(query, List.of("rank"));
+    }
+
+    /**
+     * Ids de los tableros con alguna tarea sin rank (anteriores a los ranks).
+     */
+    public List<String> findBoardIdsWithoutRank() {
+        return mongoTemplate.findDistinct(new Query(Criteria.where("rank").is(null)), "boardId",
+                TaskEntity.class, String.class);
+    }
+
+    private List<TaskEntity> find(Query query, Collection<String> fields) {
+        if (fields != null) {
+            query.fields().include(fields.toArray(String[]::new));
+        }
+        return mongoTemplate.find(query, TaskEntity.class);
+    }
+
+    /**
+     * Conteos de tareas por tablero y prioridad en un único $group, sin traer tareas.
+     * Una tarea está vencida si no está cerrada y su dueDate ya pasó; {@code nextDueAt}
+     * es el dueDate más próximo entre las abiertas que aún no vencen, o null.
+     */
+    public List<BoardPriorityCounts> countByBoardAndPriority(Collection<String> boardIds, LocalDateTime now) {
+        Date nowDate = toDate(now);
+        Criteria open = Criteria.where("status").ne(CLOSED_STATUS);
+
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.match(Criteria.where("boardId").in(boardIds)),
+                Aggregation.group("boardId", "priority")
+                        .count().as("total")
+                        .sum(ConditionalOperators.when(Criteria.where("status").is(CLOSED_STATUS)).then(1).otherwise(0))
+                        .as("closed")
+                        .sum(ConditionalOperators.when(new Criteria().andOperator(open,
+                                Criteria.where("dueDate").gte(NO_DUE_DATE),
+                                Criteria.where("dueDate").lt(nowDate))).then(1).otherwise(0))
+                        .as("overdue")
+                        .min(ConditionalOperators.when(new Criteria().andOperator(open,
+                                Criteria.where("dueDate").gte(nowDate))).thenValueOf("dueDate").otherwise(NEVER))
+                        .as("nextDueAt"));
+
+        return mongoTemplate.aggregate(aggregation, TASKS, Document.class)
+                .getMappedResults()
+                .stream()
+                .map(doc -> {
+                    Document id = doc.get("_id", Document.class);
+                    Date nextDueAt = doc.getDate("nextDueAt");
+
+                    return new BoardPriorityCounts(id.getString("boardId"), id.getString("priority"),
+                            intValue(doc, "total"), intValue(doc, "closed"), intValue(doc, "overdue"),
+                            nextDueAt == null || !nextDueAt.before(NEVER)
+                                    ? null
+                                    : LocalDateTime.ofInstant(nextDueAt.toInstant(), ZoneId.systemDefault()));
+                })
+                .toList();
+    }
+
+    /**
+     * Búsqueda filtrada con paginación por clave sobre ({@code sortField}, _id). Cada
+     * consulta lleva un hint al índice compuesto que cubre su igualdad más selectiva y
+     * el orden pedido, así nunca se resuelve recorriendo la colección. Con
+     * {@code after} se continúa después de esa tarea; las tareas sin valor en el campo
+     * de orden van primero en orden ascendente y al final en descendente, como en MongoDB.
+     */
+    public List<TaskEntity> search(TaskSearch filter, String sortField, boolean ascending, SearchCursor after,
+            int limit) {
+        List<Criteria> criteria = new ArrayList<>();
+        if (filter.boardId() != null) {
+            criteria.add(Criteria.where("boardId").is(filter.boardId()));
+        }
+        if (filter.assignedTo() != null) {
+            criteria.add(Criteria.where("assignedTo").is(filter.assignedTo()));
+        }
+        if (filter.status() != null) {
+            criteria.add(Criteria.where("status").is(filter.status()));
+        }
+        if (filter.priority() != null) {
+            criteria.add(Criteria.where("priority").is(filter.priority()));
+        }
+        addRange(criteria, "dueDate", filter.dueFrom(), filter.dueTo());
+        addRange(criteria, "createdAt", filter.createdFrom(), filter.createdTo());
+        if (after != null) {
+            criteria.add(keyset(sortField, ascending, after));
+        }
+
+        Sort.Direction direction = ascending ? Sort.Direction.ASC : Sort.Direction.DESC;
+        Query query = new Query(criteria.isEmpty() ? new Criteria() : new Criteria().andOperator(criteria))
+                .with(Sort.by(direction, sortField).and(Sort.by(direction, "_id")))
+                .limit(limit)
+                .withHint(searchIndex(filter, sortField));
+        return mongoTemplate.find(query, TaskEntity.class);
+    }
+
+    private String searchIndex(TaskSearch filter, String sortField) {
+        boolean byDueDate = SORT_DUE_DATE.equals(sortField);
+        if (filter.boardId() != null) {
+            return byDueDate ? INDEX_BOARD_DUE : INDEX_BOARD_CREATED;
+        }
+        if (filter.assignedTo() != null) {
+            return byDueDate ? INDEX_ASSIGNEE_DUE : INDEX_ASSIGNEE_CREATED;
+        }
+        return byDueDate ? INDEX_DUE : INDEX_CREATED;
+    }
+
+    /**
+     * Tareas posteriores a la última devuelta en el orden (sortField, _id).
+     */
+    private Criteria keyset(String sortField, boolean ascending, SearchCursor after) {
+        Date value = after.sortValue() != null ? toDate(after.sortValue()) : null;
+        Criteria sameValueNextId = ascending
+                ? Criteria.where(sortField).is(value).and("_id").gt(after.id())
+                : Criteria.where(sortField).is(value).and("_id").lt(after.id());
+
+        if (value == null) {
+            return ascending
+                    ? new Criteria().orOperator(sameValueNextId, Criteria.where(sortField).ne(null))
+                    : sameValueNextId;
+        }
+        return ascending
+                ? new Criteria().orOperator(sameValueNextId, Criteria.where(sortField).gt(value))
+                : new Criteria().orOperator(sameValueNextId, Criteria.where(sortField).lt(value),
+                        Criteria.where(sortField).is(null));
+    }
+
+    private void addRange(List<Criteria> criteria, String field, LocalDateTime from, LocalDateTime to) {
+        if (from == null && to == null) {
+            return;
+        }
+        Criteria range = Criteria.where(field);
+        if (from != null) {
+            range = range.gte(toDate(from));
+        }
+        if (to != null) {
+            range = range.lte(toDate(to));
+        }
+        criteria.add(range);
+    }
+
+    private Date toDate(LocalDateTime dateTime) {
+        return Date.from(dateTime.atZone(ZoneId.systemDefault()).toInstant());
+    }
+
+    public record TaskSearch(String boardId, String status, String priority, String assignedTo,
+            LocalDateTime dueFrom, LocalDateTime dueTo, LocalDateTime createdFrom, LocalDateTime createdTo) {
+    }
+
+    /**
+     * Posición de la última tarea de una página de tablero.
+     */
+    public record RankCursor(String rank, String id) {
+    }
+
+    /**
+     * Posición de la última tarea devuelta: su valor en el campo de orden y su id.
+     */
+    public record SearchCursor(LocalDateTime sortValue, String id) {
+    }
+
+    public record BoardPriorityCounts(String boardId, String priority, int total, int closed, int overdue,
+            LocalDateTime nextDueAt) {
+    }
+
+    private int intValue(Document doc, String field) {
+        Number value = (Number) doc.get(field);
+        return value != null ? value.intValue() : 0;
+    }
+}
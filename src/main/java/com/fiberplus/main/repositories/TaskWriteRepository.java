@@ -0,0 +1,126 @@
+package com.fiberplus.main.repositories;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.bson.Document;
+
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Repository;
+
+import com.fiberplus.main.entities.TaskEntity;
+
+/**
+ * Escrituras de tareas resueltas en una sola operación atómica en MongoDB, sin leer
+ * y guardar el documento completo.
+ */
+@Repository
+public class TaskWriteRepository {
+    private final MongoTemplate mongoTemplate;
+
+    public TaskWriteRepository(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    /**
+     * Mueve la tarea a {@code rank} en {@code toBoardId} solo si sigue en
+     * {@code fromBoardId} y devuelve el documento ya movido; null si no existe o si
+     * otro usuario la movió antes.
+     */
+    public TaskEntity moveIfOnBoard(String taskId, String fromBoardId, String toBoardId, String rank,
+            LocalDateTime now, long changeSeq) {
+        Query query = new Query(Criteria.where("id").is(taskId).and("boardId").is(fromBoardId));
+        Update update = new Update()
+                .set("boardId", toBoardId)
+                .set("rank", rank)
+                .set("updatedAt", now)
+                .set("changeSeq", changeSeq);
+
+        return mongoTemplate.findAndModify(query, update, FindAndModifyOptions.options().returnNew(true),
+                TaskEntity.class);
+    }
+
+    /**
+     * Aplica {@code update} solo si cada campo de {@code expected} conserva el valor
+     * indicado (null también cubre el campo ausente). Devuelve el documento actualizado
+     * o null si la tarea no existe o alguno de esos campos cambió.
+     */
+    public TaskEntity updateIfUnchanged(String taskId, Map<String, Object> expected, Update update) {
+        return mongoTemplate.findAndModify(unchanged(taskId, expected), update,
+                FindAndModifyOptions.options().returnNew(true), TaskEntity.class);
+    }
+
+    /**
+     * Igual que {@link #updateIfUnchanged} para varias tareas, en un único bulkWrite sin
+     * orden. La escritura i deja {@code changeSeq = firstChangeSeq + i}: quien llama
+     * relee las tareas para saber cuáles se aplicaron.
+     */
+    public void updateAllIfUnchanged(List<ConditionalUpdate> updates, long firstChangeSeq) {
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, TaskEntity.class);
+        for (int i = 0; i < updates.size(); i++) {
+            ConditionalUpdate update = updates.get(i);
+            bulk.updateOne(unchanged(update.taskId(), update.expected()),
+                    update.update().set("changeSeq", firstChangeSeq + i));
+        }
+        bulk.execute();
+    }
+
+    /**
+     * Ids de las tareas cuyos campos condicionados conservan hoy el valor que les dio su
+     * escritura, en una sola consulta. Sirve para decidir las escrituras que otra más
+     * reciente volvió a sellar antes de la relectura.
+     */
+    public Set<String> findIdsWithWrittenValues(List<ConditionalUpdate> updates) {
+        if (updates.isEmpty()) {
+            return Set.of();
+        }
+
+        Criteria[] written = updates.stream()
+                .map(update -> {
+                    Document set = (Document) update.update().getUpdateObject().get("$set");
+                    Criteria criteria = Criteria.where("id").is(update.taskId());
+                    update.expected().keySet().forEach(field -> criteria.and(field).is(set.get(field)));
+                    return criteria;
+                })
+                .toArray(Criteria[]::new);
+
+        Query query = new Query(new Criteria().orOperator(written));
+        query.fields().include("id");
+        return mongoTemplate.find(query, TaskEntity.class).stream()
+                .map(TaskEntity::getId)
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * Reemplaza los ranks de las tareas dadas en un único bulkWrite. Cada tarea solo se
+     * actualiza si conserva el rank leído, para no deshacer un movimiento concurrente.
+     * Devuelve cuántas se actualizaron.
+     */
+    public int replaceRanks(List<TaskEntity> tasks, List<String> ranks, long firstChangeSeq) {
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, TaskEntity.class);
+        for (int i = 0; i < tasks.size(); i++) {
+            TaskEntity task = tasks.get(i);
+            bulk.updateOne(
+                    new Query(Criteria.where("id").is(task.getId()).and("rank").is(task.getRank())),
+                    new Update().set("rank", ranks.get(i)).set("changeSeq", firstChangeSeq + i));
+        }
+        return bulk.execute().getModifiedCount();
+    }
+
+    public record ConditionalUpdate(String taskId, Map<String, Object> expected, Update update) {
+    }
+
+    private Query unchanged(String taskId, Map<String, Object> expected) {
+        Criteria criteria = Criteria.where("id").is(taskId);
+        expected.forEach((field, value) -> criteria.and(field).is(value));
+        return new Query(criteria);
+    }
+}
@@ -0,0 +1,66 @@
+package com.fiberplus.main.services;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import com.fiberplus.main.entities.BoardEntity;
+import com.fiberplus.main.events.BoardChangedEvent;
+import com.fiberplus.main.repositories.IBoardRepository;
+
+/**
+ * Ids de los tableros activos en memoria, para validar destinos de tareas sin ir a
+ * MongoDB. Se carga en la primera consulta y cada {@link BoardChangedEvent} vuelve a
+ * leer solo el tablero afectado.
+ */
+@Service
+public class ActiveBoardRegistry {
+    private static final Logger logger = LoggerFactory.getLogger(ActiveBoardRegistry.class);
+
+    private static final String ACTIVE_STATUS = "ACTIVE";
+
+    private final IBoardRepository boardRepo;
+    private final Set<String> activeIds = ConcurrentHashMap.newKeySet();
+    private volatile boolean loaded;
+
+    public ActiveBoardRegistry(IBoardRepository boardRepo) {
+        this.boardRepo = boardRepo;
+    }
+
+    public boolean isActive(String boardId) {
+        if (!loaded) {
+            load();
+        }
+        return boardId != null && activeIds.contains(boardId);
+    }
+
+    @EventListener
+    public synchronized void onBoardChanged(BoardChangedEvent event) {
+        if (!loaded) {
+            return;
+        }
+        boolean active = boardRepo.findById(event.getBoardId())
+                .map(board -> ACTIVE_STATUS.equals(board.getStatus()))
+                .orElse(false);
+        if (active) {
+            activeIds.add(event.getBoardId());
+        } else {
+            activeIds.remove(event.getBoardId());
+        }
+    }
+
+    private synchronized void load() {
+        if (loaded) {
+            return;
+        }
+        boardRepo.findByStatus(ACTIVE_STATUS).stream()
+                .map(BoardEntity::getId)
+                .forEach(activeIds::add);
+        loaded = true;
+        logger.debug("📋 {} tableros activos cargados en memoria", activeIds.size());
+    }
+}
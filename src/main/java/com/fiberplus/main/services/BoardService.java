@@ -1,39 +1,91 @@
 package com.fiberplus.main.services;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Range;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import com.fiberplus.main.common.TaskFields;
+import com.fiberplus.main.dtos.BoardChangesDto;
 import com.fiberplus.main.dtos.BoardDto;
+import com.fiberplus.main.dtos.BoardSummaryDto;
+import com.fiberplus.main.dtos.ChangeTombstoneDto;
+import com.fiberplus.main.dtos.NormalizedBoardsDto;
 import com.fiberplus.main.dtos.BoardWithTasksDto;
 import com.fiberplus.main.dtos.TaskDto;
+import com.fiberplus.main.dtos.TaskPageDto;
 import com.fiberplus.main.dtos.UserDto;
 import com.fiberplus.main.entities.BoardEntity;
 import com.fiberplus.main.entities.TaskEntity;
 import com.fiberplus.main.entities.UserEntity;
+import com.fiberplus.main.events.BoardChangedEvent;
 import com.fiberplus.main.exception.ConflictException;
+import com.fiberplus.main.exception.GenericException;
 import com.fiberplus.main.exception.ResourceNotFoundException;
 import com.fiberplus.main.repositories.IBoardRepository;
 import com.fiberplus.main.repositories.ITaskRepository;
 import com.fiberplus.main.repositories.IUserRepository;
+import com.fiberplus.main.repositories.TaskQueryRepository;
+import com.fiberplus.main.repositories.TaskQueryRepository.BoardPriorityCounts;
+import com.fiberplus.main.repositories.TaskQueryRepository.RankCursor;
 
 @Service
 public class BoardService {
+    public static final int MAX_TASK_PAGE_SIZE = 200;
+    public static final int MAX_CHANGES = 1000;
+    private static final int STREAM_CHUNK_SIZE = 500;
+    private static final String NO_PRIORITY = "SIN_PRIORIDAD";
 
     private final IBoardRepository _repo;
     private final ITaskRepository _taskRepo;
+    private final TaskQueryRepository _taskQueries;
     private final IUserRepository _userRepo;
-
-    public BoardService(IBoardRepository _repo, ITaskRepository _taskRepo, IUserRepository _userRepo) {
+    private final ApplicationEventPublisher _eventPublisher;
+    private final ObjectMapper _objectMapper;
+    private final BoardSnapshotCache _snapshotCache;
+    private final ChangeSequenceService _changeSequence;
+
+    public BoardService(IBoardRepository _repo, ITaskRepository _taskRepo, TaskQueryRepository _taskQueries,
+            IUserRepository _userRepo,
+            ApplicationEventPublisher _eventPublisher, ObjectMapper _objectMapper,
+            BoardSnapshotCache _snapshotCache, ChangeSequenceService _changeSequence) {
         this._repo = _repo;
         this._taskRepo = _taskRepo;
+        this._taskQueries = _taskQueries;
         this._userRepo = _userRepo;
+        this._eventPublisher = _eventPublisher;
+        this._objectMapper = _objectMapper;
+        this._snapshotCache = _snapshotCache;
+        this._changeSequence = _changeSequence;
+    }
+
+    private BoardEntity saveWithChangeSeq(BoardEntity board) {
+        return _changeSequence.record(seq -> {
+            board.setChangeSeq(seq);
+            return _repo.save(board);
+        });
     }
 
     private String getCurrentUserId() {
@@ -61,7 +113,8 @@ public class BoardService {
                 .updatedAt(now)
                 .build();
 
-        board = _repo.save(board);
+        board = saveWithChangeSeq(board);
+        _eventPublisher.publishEvent(new BoardChangedEvent(board.getId()));
 
         return BoardDto.builder()
                 .id(board.getId())
@@ -127,18 +180,20 @@ public class BoardService {
                 .dueDate(task.getDueDate())
                 .latitude(task.getLatitude())
                 .longitude(task.getLongitude())
+                .rank(task.getRank())
                 .createdAt(task.getCreatedAt())
                 .updatedAt(task.getUpdatedAt())
                 .build();
     }
 
     /**
-     * Convierte TaskEntity a TaskDto usando caché de usuarios pre-cargados
+     * Convierte TaskEntity a TaskDto usando caché de usuarios pre-cargados.
+     * Sin mapa de usuarios la tarea solo lleva los ids en assignedTo (formato normalizado).
      */
     private TaskDto taskToDtoWithCache(TaskEntity task, Map<String, UserDto> userMap) {
         List<UserDto> assignedUsers = null;
         
-        if (task.getAssignedTo() != null && !task.getAssignedTo().isEmpty()) {
+        if (userMap != null && task.getAssignedTo() != null && !task.getAssignedTo().isEmpty()) {
             assignedUsers = task.getAssignedTo().stream()
                     .map(userMap::get)
                     .filter(user -> user != null)
@@ -156,6 +211,7 @@ public class BoardService {
                 .dueDate(task.getDueDate())
                 .latitude(task.getLatitude())
                 .longitude(task.getLongitude())
+                .rank(task.getRank())
                 .createdAt(task.getCreatedAt())
                 .updatedAt(task.getUpdatedAt())
                 .build();
@@ -169,13 +225,71 @@ public class BoardService {
                 .toList();
     }
 
+    /**
+     * Conteos por tablero (abiertas, cerradas, vencidas y por prioridad) calculados en
+     * MongoDB sin cargar tareas, y servidos desde la caché de snapshots.
+     */
+    public List<BoardSummaryDto> getSummaries() {
+        return _snapshotCache.getOrLoadSummaries(this::loadSummaries);
+    }
+
+    private BoardSnapshotCache.Summaries loadSummaries() {
+        LocalDateTime now = LocalDateTime.now();
+        List<BoardEntity> boards = activeBoards();
+        List<String> boardIds = boards.stream().map(BoardEntity::getId).toList();
+
+        Map<String, List<BoardPriorityCounts>> countsByBoard = boardIds.isEmpty()
+                ? Map.of()
+                : _taskQueries.countByBoardAndPriority(boardIds, now).stream()
+                        .collect(Collectors.groupingBy(BoardPriorityCounts::boardId));
+
+        // Los conteos de vencidas valen hasta que venza la próxima tarea abierta
+        LocalDateTime validUntil = null;
+        List<BoardSummaryDto> summaries = new ArrayList<>();
+
+        for (BoardEntity board : boards) {
+            int total = 0;
+            int closed = 0;
+            int overdue = 0;
+            Map<String, Integer> byPriority = new LinkedHashMap<>();
+
+            for (BoardPriorityCounts counts : countsByBoard.getOrDefault(board.getId(), List.of())) {
+                total += counts.total();
+                closed += counts.closed();
+                overdue += counts.overdue();
+                byPriority.merge(counts.priority() != null ? counts.priority() : NO_PRIORITY, counts.total(),
+                        Integer::sum);
+
+                if (counts.nextDueAt() != null && (validUntil == null || counts.nextDueAt().isBefore(validUntil))) {
+                    validUntil = counts.nextDueAt();
+                }
+            }
+
+            summaries.add(BoardSummaryDto.builder()
+                    .id(board.getId())
+                    .title(board.getTitle())
+                    .createdBy(board.getCreatedBy())
+                    .status(board.getStatus())
+                    .createdAt(board.getCreatedAt())
+                    .updatedAt(board.getUpdatedAt())
+                    .totalTasks(total)
+                    .openTasks(total - closed)
+                    .closedTasks(closed)
+                    .overdueTasks(overdue)
+                    .tasksByPriority(byPriority)
+                    .build());
+        }
+
+        return new BoardSnapshotCache.Summaries(List.copyOf(summaries), validUntil);
+    }
+
     /**
      * Optimizado: Carga todos los boards con sus tareas y usuarios en solo 3 queries
      * Query 1: Obtener todos los boards activos
      * Query 2: Obtener todas las tareas de esos boards
-     * Query 3: Obtener todos los usuarios asignados
+     * Query 3: Obtener todos los usuarios asignados (solo si se piden)
      */
-    public List<BoardWithTasksDto> getAllWithTasks() {
+    public List<BoardWithTasksDto> getAllWithTasks(TaskFields fields) {
         // Query 1: Obtener todos los boards activos
         List<BoardEntity> boards = _repo.findAll()
                 .stream()
@@ -192,23 +306,10 @@ public class BoardService {
                 .toList();
         
         // Query 2: Obtener TODAS las tareas de todos los boards de una vez
-        List<TaskEntity> allTasks = _taskRepo.findByBoardIdIn(boardIds);
+        List<TaskEntity> allTasks = findTasksByBoardIds(boardIds, fields);
         
         // Query 3: Obtener TODOS los usuarios únicos asignados de una vez
-        List<String> allUserIds = allTasks.stream()
-                .filter(task -> task.getAssignedTo() != null)
-                .flatMap(task -> task.getAssignedTo().stream())
-                .distinct()
-                .toList();
-        
-        // Crear mapa de usuarios para acceso O(1)
-        Map<String, UserDto> userMap = allUserIds.isEmpty() 
-                ? Map.of()
-                : _userRepo.findAllById(allUserIds).stream()
-                    .collect(Collectors.toMap(
-                        UserEntity::getId,
-                        this::userToDto
-                    ));
+        Map<String, UserDto> userMap = loadUserMap(allTasks, fields);
 
         // Agrupar tareas por boardId para acceso O(1)
         Map<String, List<TaskEntity>> tasksByBoard = allTasks.stream()
@@ -237,10 +338,265 @@ public class BoardService {
     }
 
     /**
-     * Optimizado: Obtiene un board con sus tareas en solo 2-3 queries
+     * Modo paginado: cada tablero trae solo su primera página de tareas y el cursor
+     * para pedir la siguiente con {@link #getTaskPage}. Una consulta por tablero,
+     * acotada a {@code pageSize}, y una sola para los usuarios de todas las páginas.
      */
-    public BoardWithTasksDto getByIdWithTasks(String id) {
-        // Query 1: Obtener el board
+    public List<BoardWithTasksDto> getAllWithTaskPages(int pageSize, TaskFields fields) {
+        int limit = clampPageSize(pageSize);
+        List<BoardEntity> boards = activeBoards();
+
+        Map<String, List<TaskEntity>> firstPages = new HashMap<>();
+        for (BoardEntity board : boards) {
+            firstPages.put(board.getId(), findTaskPage(board.getId(), null, limit, fields));
+        }
+
+        Map<String, UserDto> userMap = loadUserMap(firstPages.values().stream().flatMap(List::stream).toList(), fields);
+
+        return boards.stream()
+                .map(board -> {
+                    TaskPageDto page = toTaskPage(firstPages.get(board.getId()), limit, userMap);
+
+                    return BoardWithTasksDto.builder()
+                            .id(board.getId())
+                            .title(board.getTitle())
+                            .createdBy(board.getCreatedBy())
+                            .status(board.getStatus())
+                            .createdAt(board.getCreatedAt())
+                            .updatedAt(board.getUpdatedAt())
+                            .tasks(page.getTasks())
+                            .nextCursor(page.getNextCursor())
+                            .build();
+                })
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Igual que {@link #getAllWithTasks} o {@link #getAllWithTaskPages}, pero con
+     * los usuarios en un diccionario aparte en lugar de copiados en cada tarea.
+     */
+    public NormalizedBoardsDto getAllWithTasksNormalized(Integer pageSize) {
+        List<BoardEntity> boards = activeBoards();
+        List<String> boardIds = boards.stream().map(BoardEntity::getId).toList();
+
+        Map<String, TaskPageDto> pages = new HashMap<>();
+        List<TaskEntity> allTasks = new ArrayList<>();
+
+        if (pageSize == null) {
+            Map<String, List<TaskEntity>> tasksByBoard = boardIds.isEmpty()
+                    ? Map.of()
+                    : _taskRepo.findByBoardIdInOrderByRankAscIdAsc(boardIds).stream()
+                            .collect(Collectors.groupingBy(TaskEntity::getBoardId));
+            for (String boardId : boardIds) {
+                List<TaskEntity> tasks = tasksByBoard.getOrDefault(boardId, List.of());
+                allTasks.addAll(tasks);
+                pages.put(boardId, toTaskPage(tasks, Integer.MAX_VALUE, null));
+            }
+        } else {
+            int limit = clampPageSize(pageSize);
+            for (String boardId : boardIds) {
+                List<TaskEntity> tasks = _taskQueries.findPage(boardId, null, limit + 1, null);
+                TaskPageDto page = toTaskPage(tasks, limit, null);
+                allTasks.addAll(tasks.subList(0, page.getTasks().size()));
+                pages.put(boardId, page);
+            }
+        }
+
+        Map<String, BoardWithTasksDto> boardMap = new LinkedHashMap<>();
+        for (BoardEntity board : boards) {
+            TaskPageDto page = pages.get(board.getId());
+            boardMap.put(board.getId(), BoardWithTasksDto.builder()
+                    .id(board.getId())
+                    .title(board.getTitle())
+                    .createdBy(board.getCreatedBy())
+                    .status(board.getStatus())
+                    .createdAt(board.getCreatedAt())
+                    .updatedAt(board.getUpdatedAt())
+                    .tasks(page.getTasks())
+                    .nextCursor(page.getNextCursor())
+                    .build());
+        }
+
+        return NormalizedBoardsDto.builder()
+                .boards(boardMap)
+                .users(loadUserMap(allTasks))
+                .build();
+    }
+
+    /**
+     * Siguiente página de tareas de un tablero, en el orden de sus tarjetas. El cursor
+     * es el nextCursor de la página anterior; sin cursor se devuelve la primera página.
+     */
+    public TaskPageDto getTaskPage(String boardId, String cursor, int pageSize, TaskFields fields) {
+        findActiveBoard(boardId);
+        int limit = clampPageSize(pageSize);
+
+        List<TaskEntity> tasks = findTaskPage(boardId, cursor, limit, fields);
+        return toTaskPage(tasks, limit, loadUserMap(tasks, fields));
+    }
+
+    /**
+     * Tableros y tareas escritos con secuencia en (since, watermark], en orden de
+     * secuencia y como mucho {@code limit} en total. Los tableros desactivados llegan
+     * como marcas de eliminación. Sin {@code since} solo se devuelve la secuencia
+     * actual, que el cliente toma como punto de partida antes de su carga completa.
+     */
+    public BoardChangesDto getChanges(Long since, int limit) {
+        long upTo = _changeSequence.watermark();
+        if (since == null || since >= upTo) {
+            long current = since != null ? since : upTo;
+            return BoardChangesDto.builder()
+                    .since(current)
+                    .nextSince(current)
+                    .boards(List.of())
+                    .tasks(List.of())
+                    .tombstones(List.of())
+                    .build();
+        }
+
+        int max = Math.max(1, Math.min(limit, MAX_CHANGES));
+        Range<Long> range = Range.of(Range.Bound.exclusive(since), Range.Bound.inclusive(upTo));
+
+        List<BoardEntity> boards = _repo.findByChangeSeqBetweenOrderByChangeSeqAsc(range, Limit.of(max + 1));
+        List<TaskEntity> tasks = _taskRepo.findByChangeSeqBetweenOrderByChangeSeqAsc(range, Limit.of(max + 1));
+
+        // Ambos lotes se cortan en la misma secuencia para que el siguiente pedido no deje huecos
+        long cutoff = upTo;
+        boolean hasMore = boards.size() + tasks.size() > max;
+        if (hasMore) {
+            List<Long> seqs = new ArrayList<>();
+            boards.forEach(board -> seqs.add(board.getChangeSeq()));
+            tasks.forEach(task -> seqs.add(task.getChangeSeq()));
+            seqs.sort(null);
+            cutoff = seqs.get(max - 1);
+        }
+
+        long lastSeq = cutoff;
+        List<BoardEntity> changedBoards = boards.stream()
+                .filter(board -> board.getChangeSeq() <= lastSeq)
+                .toList();
+        List<TaskEntity> changedTasks = tasks.stream()
+                .filter(task -> task.getChangeSeq() <= lastSeq)
+                .toList();
+
+        Map<String, UserDto> userMap = loadUserMap(changedTasks);
+
+        return BoardChangesDto.builder()
+                .since(since)
+                .nextSince(cutoff)
+                .hasMore(hasMore)
+                .boards(changedBoards.stream()
+                        .filter(board -> "ACTIVE".equals(board.getStatus()))
+                        .map(this::toDto)
+                        .toList())
+                .tasks(changedTasks.stream()
+                        .map(task -> taskToDtoWithCache(task, userMap))
+                        .toList())
+                .tombstones(changedBoards.stream()
+                        .filter(board -> !"ACTIVE".equals(board.getStatus()))
+                        .map(board -> ChangeTombstoneDto.builder()
+                                .entityType("BOARD")
+                                .id(board.getId())
+                                .changeSeq(board.getChangeSeq())
+                                .build())
+                        .toList())
+                .build();
+    }
+
+    /**
+     * Modo streaming: escribe el mismo JSON que {@link #getAllWithTasks()} a medida que
+     * las tareas salen de un único cursor ordenado por (boardId, rank, _id). En memoria solo
+     * queda un bloque de {@value #STREAM_CHUNK_SIZE} tareas y sus usuarios asignados.
+     */
+    public StreamingResponseBody streamAllWithTasks() {
+        List<BoardEntity> boards = activeBoards().stream()
+                .sorted(Comparator.comparing(BoardEntity::getId))
+                .toList();
+        List<String> boardIds = boards.stream().map(BoardEntity::getId).toList();
+
+        return outputStream -> {
+            JsonGenerator json = _objectMapper.createGenerator(outputStream);
+            json.writeStartArray();
+
+            Iterator<BoardEntity> pendingBoards = boards.iterator();
+            BoardEntity openBoard = null;
+            List<TaskEntity> chunk = new ArrayList<>(STREAM_CHUNK_SIZE);
+
+            if (!boardIds.isEmpty()) {
+                try (Stream<TaskEntity> tasks = _taskRepo.streamByBoardIdInOrderByBoardIdAscRankAscIdAsc(boardIds)) {
+                    Iterator<TaskEntity> iterator = tasks.iterator();
+                    while (iterator.hasNext()) {
+                        chunk.add(iterator.next());
+                        if (chunk.size() == STREAM_CHUNK_SIZE) {
+                            openBoard = writeTaskChunk(json, chunk, pendingBoards, openBoard);
+                            chunk.clear();
+                        }
+                    }
+                    openBoard = writeTaskChunk(json, chunk, pendingBoards, openBoard);
+                }
+            }
+
+            if (openBoard != null) {
+                closeBoard(json);
+            }
+            // Tableros sin tareas
+            while (pendingBoards.hasNext()) {
+                openBoard(json, pendingBoards.next());
+                closeBoard(json);
+            }
+
+            json.writeEndArray();
+            json.flush();
+        };
+    }
+
+    /**
+     * Los tableros y las tareas vienen ordenados por el mismo id, así que basta con
+     * avanzar en la lista de tableros cada vez que cambia el boardId de la tarea.
+     */
+    private BoardEntity writeTaskChunk(JsonGenerator json, List<TaskEntity> chunk,
+            Iterator<BoardEntity> pendingBoards, BoardEntity openBoard) throws IOException {
+        Map<String, UserDto> userMap = loadUserMap(chunk);
+
+        for (TaskEntity task : chunk) {
+            while (openBoard == null || !openBoard.getId().equals(task.getBoardId())) {
+                if (openBoard != null) {
+                    closeBoard(json);
+                }
+                openBoard = pendingBoards.next();
+                openBoard(json, openBoard);
+            }
+            json.writeObject(taskToDtoWithCache(task, userMap));
+        }
+
+        json.flush();
+        return openBoard;
+    }
+
+    private void openBoard(JsonGenerator json, BoardEntity board) throws IOException {
+        json.writeStartObject();
+        json.writeStringField("id", board.getId());
+        json.writeStringField("title", board.getTitle());
+        json.writeStringField("createdBy", board.getCreatedBy());
+        json.writeStringField("status", board.getStatus());
+        json.writeObjectField("createdAt", board.getCreatedAt());
+        json.writeObjectField("updatedAt", board.getUpdatedAt());
+        json.writeArrayFieldStart("tasks");
+    }
+
+    private void closeBoard(JsonGenerator json) throws IOException {
+        json.writeEndArray();
+        json.writeEndObject();
+    }
+
+    private List<BoardEntity> activeBoards() {
+        return _repo.findAll()
+                .stream()
+                .filter(board -> "ACTIVE".equals(board.getStatus()))
+                .toList();
+    }
+
+    private BoardEntity findActiveBoard(String id) {
         BoardEntity board = _repo.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException(
                         "No se encontró el tablero con id ", "id", id));
@@ -249,9 +605,117 @@ public class BoardService {
             throw new ResourceNotFoundException(
                     "El tablero con id " + id + " no está activo", "id", id);
         }
+        return board;
+    }
+
+    private int clampPageSize(int pageSize) {
+        return Math.max(1, Math.min(pageSize, MAX_TASK_PAGE_SIZE));
+    }
+
+    /**
+     * Las consultas piden {@code limit + 1} tareas: la sobrante solo indica que hay otra página.
+     */
+    private TaskPageDto toTaskPage(List<TaskEntity> tasks, int limit, Map<String, UserDto> userMap) {
+        boolean hasMore = tasks.size() > limit;
+        List<TaskEntity> page = hasMore ? tasks.subList(0, limit) : tasks;
+
+        return TaskPageDto.builder()
+                .tasks(page.stream()
+                        .map(task -> taskToDtoWithCache(task, userMap))
+                        .collect(Collectors.toList()))
+                .nextCursor(hasMore ? encodeCursor(page.get(page.size() - 1)) : null)
+                .build();
+    }
+
+    /**
+     * Cursor opaco con el rank y el id de la última tarea de la página.
+     */
+    private String encodeCursor(TaskEntity last) {
+        String raw = (last.getRank() != null ? last.getRank() : "") + "|" + last.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private RankCursor decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf('|');
+            if (separator < 0) {
+                throw new GenericException("Cursor de página inválido.");
+            }
+            String rank = raw.substring(0, separator);
+            return new RankCursor(rank.isEmpty() ? null : rank, raw.substring(separator + 1));
+        } catch (IllegalArgumentException e) {
+            throw new GenericException("Cursor de página inválido.");
+        }
+    }
+
+    /**
+     * Usuarios asignados a las tareas dadas, resueltos con un único findAllById.
+     */
+    private Map<String, UserDto> loadUserMap(Collection<TaskEntity> tasks) {
+        List<String> userIds = tasks.stream()
+                .filter(task -> task.getAssignedTo() != null)
+                .flatMap(task -> task.getAssignedTo().stream())
+                .distinct()
+                .toList();
+
+        return userIds.isEmpty()
+                ? Map.of()
+                : _userRepo.findAllById(userIds).stream()
+                        .collect(Collectors.toMap(UserEntity::getId, this::userToDto));
+    }
+
+    /**
+     * Sin assignedUsers entre los campos pedidos no se consulta a los usuarios.
+     */
+    private Map<String, UserDto> loadUserMap(Collection<TaskEntity> tasks, TaskFields fields) {
+        return fields.includesUsers() ? loadUserMap(tasks) : null;
+    }
+
+    /**
+     * Tareas de los tableros dados; con un subconjunto de campos se proyectan en MongoDB
+     * y el resto de la tarea no sale de la base.
+     */
+    private List<TaskEntity> findTasksByBoardIds(List<String> boardIds, TaskFields fields) {
+        return fields.isAll()
+                ? _taskRepo.findByBoardIdInOrderByRankAscIdAsc(boardIds)
+                : _taskQueries.findByBoardIds(boardIds, fields.mongoFields());
+    }
+
+    /**
+     * Página de {@code limit + 1} tareas después de {@code cursor}, con la misma proyección.
+     */
+    private List<TaskEntity> findTaskPage(String boardId, String cursor, int limit, TaskFields fields) {
+        return _taskQueries.findPage(boardId, decodeCursor(cursor), limit + 1,
+                fields.isAll() ? null : fields.mongoFields());
+    }
+
+    /**
+     * Tablero con sus tareas desde la caché de snapshots; solo se consulta la base
+     * si el tablero cambió desde la última vez que se abrió. Las lecturas con un
+     * subconjunto de campos no pasan por la caché.
+     */
+    public BoardWithTasksDto getByIdWithTasks(String id, TaskFields fields) {
+        if (!fields.isAll()) {
+            return loadByIdWithTasks(id, fields);
+        }
+        return _snapshotCache.getOrLoad(id, () -> loadByIdWithTasks(id, fields));
+    }
+
+    /**
+     * Optimizado: Obtiene un board con sus tareas en solo 2-3 queries
+     */
+    private BoardWithTasksDto loadByIdWithTasks(String id, TaskFields fields) {
+        // Query 1: Obtener el board
+        BoardEntity board = findActiveBoard(id);
 
         // Query 2: Obtener todas las tareas del board
-        List<TaskEntity> tasks = _taskRepo.findByBoardId(id);
+        List<TaskEntity> tasks = fields.isAll()
+                ? _taskRepo.findByBoardIdOrderByRankAscIdAsc(id)
+                : _taskQueries.findByBoardIds(List.of(id), fields.mongoFields());
         
         if (tasks.isEmpty()) {
             return BoardWithTasksDto.builder()
@@ -266,19 +730,7 @@ public class BoardService {
         }
 
         // Query 3: Obtener todos los usuarios asignados de una vez
-        List<String> allUserIds = tasks.stream()
-                .filter(task -> task.getAssignedTo() != null)
-                .flatMap(task -> task.getAssignedTo().stream())
-                .distinct()
-                .toList();
-        
-        Map<String, UserDto> userMap = allUserIds.isEmpty()
-                ? Map.of()
-                : _userRepo.findAllById(allUserIds).stream()
-                    .collect(Collectors.toMap(
-                        UserEntity::getId,
-                        this::userToDto
-                    ));
+        Map<String, UserDto> userMap = loadUserMap(tasks, fields);
 
         // Construir DTOs de tareas con caché de usuarios
         List<TaskDto> taskDtos = tasks.stream()
@@ -292,7 +744,7 @@ public class BoardService {
                 .status(board.getStatus())
                 .createdAt(board.getCreatedAt())
                 .updatedAt(board.getUpdatedAt())
-                .tasks(taskDtos)
+                .tasks(List.copyOf(taskDtos))
                 .build();
     }
 
@@ -319,7 +771,8 @@ public class BoardService {
                 .updatedAt(LocalDateTime.now())
                 .build();
 
-        updated = _repo.save(updated);
+        updated = saveWithChangeSeq(updated);
+        _eventPublisher.publishEvent(new BoardChangedEvent(id));
 
         return toDto(updated);
     }
@@ -332,6 +785,7 @@ public class BoardService {
         board.setStatus("INACTIVE");
         board.setUpdatedAt(LocalDateTime.now());
 
-        _repo.save(board);
+        saveWithChangeSeq(board);
+        _eventPublisher.publishEvent(new BoardChangedEvent(id));
     }
 }
\ No newline at end of file
@@ -0,0 +1,222 @@
+package com.fiberplus.main.services;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import com.fiberplus.main.dtos.BoardSummaryDto;
+import com.fiberplus.main.dtos.BoardWithTasksDto;
+import com.fiberplus.main.dtos.TaskDto;
+import com.fiberplus.main.dtos.UserDto;
+import com.fiberplus.main.events.BoardChangedEvent;
+import com.fiberplus.main.events.TaskChangedEvent;
+import com.fiberplus.main.events.UserChangedEvent;
+
+/**
+ * Caché de tableros ya hidratados con sus tareas y usuarios, uno por tablero.
+ * Cada tablero tiene una versión que solo crece: cualquier cambio en sus tareas, en el
+ * propio tablero o en un usuario asignado la incrementa y descarta la entrada.
+ * La expulsión es LRU, acotada por cantidad de entradas y por bytes aproximados
+ * (una estimación del tamaño del JSON del tablero a partir de sus textos, sin serializarlo).
+ *
+ * También guarda el resumen de conteos de todos los tableros, que se descarta con
+ * cualquier cambio de tareas o tableros y cuando vence la próxima tarea abierta.
+ *
+ * Las instancias guardadas se comparten entre peticiones y no deben modificarse.
+ */
+@Service
+public class BoardSnapshotCache {
+    private static final Logger logger = LoggerFactory.getLogger(BoardSnapshotCache.class);
+    private static final int BOARD_OVERHEAD_BYTES = 160;
+    private static final int TASK_OVERHEAD_BYTES = 320;
+    private static final int USER_OVERHEAD_BYTES = 160;
+
+    private final int maxEntries;
+    private final long maxBytes;
+    private final SingleFlightService singleFlight;
+
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<String, Long> versions = new HashMap<>();
+    private long totalBytes;
+
+    private long summaryGeneration;
+    private Summaries summaries;
+
+    public BoardSnapshotCache(@Value("${boards.snapshot-cache.max-entries:100}") int maxEntries,
+            @Value("${boards.snapshot-cache.max-bytes:33554432}") long maxBytes,
+            SingleFlightService singleFlight) {
+        this.maxEntries = maxEntries;
+        this.maxBytes = maxBytes;
+        this.singleFlight = singleFlight;
+    }
+
+    /**
+     * Devuelve el tablero en caché o lo carga fuera del lock. Si la versión del
+     * tablero cambió mientras se cargaba, el resultado se entrega pero no se guarda.
+     * Las cargas simultáneas de la misma versión de un tablero se hacen una sola vez.
+     */
+    public BoardWithTasksDto getOrLoad(String boardId, Supplier<BoardWithTasksDto> loader) {
+        long version;
+        synchronized (this) {
+            Entry entry = entries.get(boardId);
+            if (entry != null) {
+                return entry.snapshot();
+            }
+            version = versions.getOrDefault(boardId, 0L);
+        }
+
+        BoardWithTasksDto snapshot = singleFlight.execute(ConditionalRequestService.BOARD, boardId + "@" + version,
+                loader);
+        long bytes = approximateBytes(snapshot);
+
+        synchronized (this) {
+            if (versions.getOrDefault(boardId, 0L) == version && bytes <= maxBytes) {
+                Entry previous = entries.put(boardId, new Entry(snapshot, version, bytes, assignedUserIds(snapshot)));
+                if (previous != null) {
+                    totalBytes -= previous.bytes();
+                }
+                totalBytes += bytes;
+                evictIfNeeded();
+            }
+        }
+        return snapshot;
+    }
+
+    /**
+     * Resumen de todos los tableros activos, desde memoria mientras siga vigente.
+     */
+    public List<BoardSummaryDto> getOrLoadSummaries(Supplier<Summaries> loader) {
+        long generation;
+        synchronized (this) {
+            if (summaries != null && (summaries.validUntil() == null
+                    || LocalDateTime.now().isBefore(summaries.validUntil()))) {
+                return summaries.boards();
+            }
+            generation = summaryGeneration;
+        }
+
+        Summaries loaded = singleFlight.execute("boards/summary", Long.toString(generation), loader);
+
+        synchronized (this) {
+            if (summaryGeneration == generation) {
+                summaries = loaded;
+            }
+        }
+        return loaded.boards();
+    }
+
+    public synchronized long getVersion(String boardId) {
+        return versions.getOrDefault(boardId, 0L);
+    }
+
+    @EventListener
+    public synchronized void onTaskChanged(TaskChangedEvent event) {
+        event.getBoardIds().forEach(this::invalidate);
+        invalidateSummaries();
+    }
+
+    @EventListener
+    public synchronized void onBoardChanged(BoardChangedEvent event) {
+        invalidate(event.getBoardId());
+        invalidateSummaries();
+    }
+
+    /**
+     * Los tableros que muestran al usuario guardan una copia de su nombre y foto.
+     */
+    @EventListener
+    public synchronized void onUserChanged(UserChangedEvent event) {
+        entries.entrySet().stream()
+                .filter(entry -> entry.getValue().userIds().contains(event.getUserId()))
+                .map(Map.Entry::getKey)
+                .toList()
+                .forEach(this::invalidate);
+    }
+
+    private void invalidate(String boardId) {
+        versions.merge(boardId, 1L, Long::sum);
+        Entry removed = entries.remove(boardId);
+        if (removed != null) {
+            totalBytes -= removed.bytes();
+            logger.debug("🗑️ Snapshot del tablero {} invalidado (versión {})", boardId, versions.get(boardId));
+        }
+    }
+
+    private void invalidateSummaries() {
+        summaryGeneration++;
+        summaries = null;
+    }
+
+    private void evictIfNeeded() {
+        Iterator<Entry> eldest = entries.values().iterator();
+        while (eldest.hasNext() && (entries.size() > maxEntries || totalBytes > maxBytes)) {
+            totalBytes -= eldest.next().bytes();
+            eldest.remove();
+        }
+    }
+
+    /**
+     * Claves, fechas y números ocupan casi lo mismo en cada tarea o usuario; lo que
+     * varía son los textos, así que se suman sus longitudes a un costo fijo por objeto.
+     */
+    private long approximateBytes(BoardWithTasksDto snapshot) {
+        long bytes = BOARD_OVERHEAD_BYTES + length(snapshot.getId()) + length(snapshot.getTitle())
+                + length(snapshot.getCreatedBy()) + length(snapshot.getStatus());
+        if (snapshot.getTasks() == null) {
+            return bytes;
+        }
+
+        for (TaskDto task : snapshot.getTasks()) {
+            bytes += TASK_OVERHEAD_BYTES + length(task.getId()) + length(task.getTitle())
+                    + length(task.getDescription()) + length(task.getPriority()) + length(task.getLatitude())
+                    + length(task.getLongitude()) + length(task.getBoardId()) + length(task.getStatus())
+                    + length(task.getRank());
+            if (task.getAssignedTo() != null) {
+                for (String userId : task.getAssignedTo()) {
+                    bytes += length(userId) + 3;
+                }
+            }
+            if (task.getAssignedUsers() != null) {
+                for (UserDto user : task.getAssignedUsers()) {
+                    bytes += USER_OVERHEAD_BYTES + length(user.getId()) + length(user.getUsername())
+                            + length(user.getName()) + length(user.getLastName()) + length(user.getEmail())
+                            + length(user.getPosition()) + length(user.getPhoto());
+                }
+            }
+        }
+        return bytes;
+    }
+
+    private static int length(String value) {
+        return value != null ? value.length() : 0;
+    }
+
+    private Set<String> assignedUserIds(BoardWithTasksDto snapshot) {
+        return snapshot.getTasks().stream()
+                .filter(task -> task.getAssignedTo() != null)
+                .flatMap(task -> task.getAssignedTo().stream())
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * Resumen calculado y el instante hasta el que sus conteos de vencidas son exactos
+     * (null si ninguna tarea abierta vence más adelante).
+     */
+    public record Summaries(List<BoardSummaryDto> boards, LocalDateTime validUntil) {
+    }
+
+    private record Entry(BoardWithTasksDto snapshot, long version, long bytes, Set<String> userIds) {
+    }
+}
@@ -1,5 +1,7 @@
 package com.fiberplus.main.services;
 
+import java.util.List;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
@@ -70,6 +72,38 @@ public class BoardWebSocketService {
         logger.info("📤 Tarea eliminada notificada: {}", taskId);
     }
 
+    /**
+     * Un solo mensaje por tablero para un lote de cambios: {@code tasks} son las tareas
+     * que ahora están en el tablero y {@code taskIds} las que salieron de él.
+     */
+    public void notifyTasksBulkChanged(String boardId, List<?> tasks, List<String> removedTaskIds) {
+        BoardUpdateDto update = BoardUpdateDto.builder()
+                .type("TASKS_BULK_CHANGED")
+                .boardId(boardId)
+                .tasks(tasks)
+                .taskIds(removedTaskIds)
+                .build();
+
+        sendBoardUpdate(update);
+        logger.info("📤 Lote de tareas notificado en board {}: {} actualizadas, {} salieron",
+                boardId, tasks.size(), removedTaskIds.size());
+    }
+
+    /**
+     * Aviso de que un tablero recibió tareas importadas; los clientes lo recargan en
+     * lugar de recibir miles de tareas por el socket.
+     */
+    public void notifyTasksImported(String boardId, int count) {
+        BoardUpdateDto update = BoardUpdateDto.builder()
+                .type("TASKS_IMPORTED")
+                .boardId(boardId)
+                .count(count)
+                .build();
+
+        sendBoardUpdate(update);
+        logger.info("📤 Importación notificada en board {}: {} tareas", boardId, count);
+    }
+
     public void notifyBoardCreated(Object board) {
         BoardUpdateDto update = BoardUpdateDto.builder()
                 .type("BOARD_CREATED")
@@ -0,0 +1,96 @@
+package com.fiberplus.main.services;
+
+import java.util.PriorityQueue;
+import java.util.TreeSet;
+import java.util.function.LongFunction;
+
+import org.springframework.stereotype.Service;
+
+import com.fiberplus.main.repositories.ChangeSequenceRepository;
+
+/**
+ * Secuencia global y monótona con la que se sellan las escrituras de tareas y
+ * tableros, para que los clientes pidan solo lo cambiado desde su última sincronización.
+ *
+ * Un número se reserva antes de guardar, así que una escritura lenta puede terminar
+ * después de otra con número mayor. {@link #watermark()} solo avanza hasta antes de
+ * la escritura en curso más antigua, para que una consulta de cambios nunca salte una.
+ *
+ * El número se pide a MongoDB fuera del monitor, que solo protege el estado en memoria.
+ * Mientras una reserva está en camino se desconoce su número, pero será mayor que el
+ * último ya recibido al empezarla: ese valor queda como cota inferior hasta que llega.
+ */
+@Service
+public class ChangeSequenceService {
+    private final ChangeSequenceRepository sequenceRepo;
+
+    private final TreeSet<Long> inFlight = new TreeSet<>();
+    private final PriorityQueue<Long> reserving = new PriorityQueue<>();
+    private long highestReserved;
+
+    public ChangeSequenceService(ChangeSequenceRepository sequenceRepo) {
+        this.sequenceRepo = sequenceRepo;
+    }
+
+    /**
+     * Ejecuta una escritura con el siguiente número de secuencia.
+     */
+    public <T> T record(LongFunction<T> write) {
+        return recordBatch(1, write);
+    }
+
+    /**
+     * Como {@link #record}, pero reservando {@code count} números consecutivos para una
+     * escritura en bloque; {@code write} recibe el primero.
+     */
+    public <T> T recordBatch(int count, LongFunction<T> write) {
+        long lowerBound;
+        synchronized (this) {
+            lowerBound = highestReserved + 1;
+            reserving.add(lowerBound);
+        }
+
+        long first;
+        try {
+            long last = sequenceRepo.next(count);
+            first = last - count + 1;
+            synchronized (this) {
+                highestReserved = Math.max(highestReserved, last);
+                inFlight.add(first);
+            }
+        } finally {
+            synchronized (this) {
+                reserving.remove(lowerBound);
+            }
+        }
+
+        try {
+            return write.apply(first);
+        } finally {
+            synchronized (this) {
+                inFlight.remove(first);
+            }
+        }
+    }
+
+    /**
+     * Mayor número de secuencia cuyas escrituras, y todas las anteriores, ya terminaron.
+     * El contador leído puede incluir reservas locales aún en camino; sus cotas
+     * inferiores impiden que la marca las pase.
+     */
+    public long watermark() {
+        long current = sequenceRepo.current();
+
+        synchronized (this) {
+            highestReserved = Math.max(highestReserved, current);
+            long oldest = Long.MAX_VALUE;
+            if (!inFlight.isEmpty()) {
+                oldest = inFlight.first();
+            }
+            if (!reserving.isEmpty()) {
+                oldest = Math.min(oldest, reserving.peek());
+            }
+            return oldest == Long.MAX_VALUE ? highestReserved : oldest - 1;
+        }
+    }
+}
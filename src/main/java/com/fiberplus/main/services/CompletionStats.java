@@ -0,0 +1,151 @@
+package com.fiberplus.main.services;
+
+import java.util.Map;
+
+/**
+ * Acumulador de una sola pasada para tiempos de resolución en horas: conteos,
+ * suma, mínimo y máximo en primitivos, más un histograma logarítmico compacto
+ * para estimar la mediana y el p90 sin guardar cada duración.
+ *
+ * Las primeras 32 horas tienen un bucket exacto cada una; por encima, cada potencia
+ * de dos se divide en 8 buckets, con un error relativo máximo de 12,5 %.
+ * El histograma también se persiste en report_rollups, por eso los buckets se
+ * identifican con un índice estable.
+ */
+public class CompletionStats {
+    private static final int EXACT_BUCKETS = 32;
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int FIRST_EXPONENT = 5;
+    private static final long MAX_HOURS = (1L << 20) - 1;
+    private static final int BUCKET_COUNT = bucketOf(MAX_HOURS) + 1;
+
+    private long completions;
+    private long evidences;
+
+    private long durationCount;
+    private long durationSum;
+    private long min = Long.MAX_VALUE;
+    private long max = Long.MIN_VALUE;
+    private long[] buckets;
+
+    public void addCompletion(int evidenceCount, Long hours) {
+        completions++;
+        evidences += evidenceCount;
+        if (hours != null) {
+            addDuration(hours);
+        }
+    }
+
+    public void addDuration(long hours) {
+        long value = Math.max(0, Math.min(hours, MAX_HOURS));
+
+        durationCount++;
+        durationSum += value;
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+        buckets()[bucketOf(value)]++;
+    }
+
+    /**
+     * Suma un acumulado ya agregado, como un documento de report_rollups.
+     * Sin histograma solo aportan el conteo y la suma.
+     */
+    public void merge(long completionCount, long evidenceCount, long hoursSum, Long minHours, Long maxHours,
+            Map<String, Long> histogram) {
+        completions += completionCount;
+        evidences += evidenceCount;
+        durationCount += completionCount;
+        durationSum += hoursSum;
+        if (minHours != null) {
+            min = Math.min(min, minHours);
+        }
+        if (maxHours != null) {
+            max = Math.max(max, maxHours);
+        }
+        if (histogram != null) {
+            histogram.forEach((bucket, count) -> buckets()[Integer.parseInt(bucket)] += count);
+        }
+    }
+
+    public long getCompletions() {
+        return completions;
+    }
+
+    public long getEvidences() {
+        return evidences;
+    }
+
+    public double average() {
+        return durationCount == 0 ? 0 : (double) durationSum / durationCount;
+    }
+
+    public double median() {
+        return quantile(0.5);
+    }
+
+    public double p90() {
+        return quantile(0.9);
+    }
+
+    /**
+     * Cuantil aproximado: el punto medio del bucket que contiene el rango pedido,
+     * acotado al mínimo y máximo observados.
+     */
+    public double quantile(double q) {
+        long bucketed = 0;
+        if (buckets != null) {
+            for (long count : buckets) {
+                bucketed += count;
+            }
+        }
+        if (bucketed == 0) {
+            return average();
+        }
+
+        long rank = Math.max(1, (long) Math.ceil(q * bucketed));
+        long seen = 0;
+        for (int i = 0; i < buckets.length; i++) {
+            seen += buckets[i];
+            if (seen >= rank) {
+                double mid = (lowerBound(i) + upperBound(i)) / 2.0;
+                return Math.max(min, Math.min(max, mid));
+            }
+        }
+        return max;
+    }
+
+    public static int bucketOf(long hours) {
+        long value = Math.max(0, Math.min(hours, MAX_HOURS));
+        if (value < EXACT_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int subBucket = (int) ((value >> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1));
+        return EXACT_BUCKETS + (exponent - FIRST_EXPONENT) * SUB_BUCKETS + subBucket;
+    }
+
+    private static long lowerBound(int bucket) {
+        if (bucket < EXACT_BUCKETS) {
+            return bucket;
+        }
+        int exponent = (bucket - EXACT_BUCKETS) / SUB_BUCKETS + FIRST_EXPONENT;
+        int subBucket = (bucket - EXACT_BUCKETS) % SUB_BUCKETS;
+        return (long) (SUB_BUCKETS + subBucket) << (exponent - SUB_BUCKET_BITS);
+    }
+
+    private static long upperBound(int bucket) {
+        if (bucket < EXACT_BUCKETS) {
+            return bucket;
+        }
+        int exponent = (bucket - EXACT_BUCKETS) / SUB_BUCKETS + FIRST_EXPONENT;
+        return lowerBound(bucket) + (1L << (exponent - SUB_BUCKET_BITS)) - 1;
+    }
+
+    private long[] buckets() {
+        if (buckets == null) {
+            buckets = new long[BUCKET_COUNT];
+        }
+        return buckets;
+    }
+}
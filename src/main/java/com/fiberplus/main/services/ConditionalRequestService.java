@@ -0,0 +1,165 @@
+package com.fiberplus.main.services;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import com.fiberplus.main.dtos.ConditionalRequestStats;
+import com.fiberplus.main.events.BoardChangedEvent;
+import com.fiberplus.main.events.NotificationChangedEvent;
+import com.fiberplus.main.events.TaskChangedEvent;
+import com.fiberplus.main.events.UserChangedEvent;
+
+/**
+ * ETags fuertes para GETs condicionales, calculados a partir de contadores de
+ * versión en memoria y no del contenido, así un If-None-Match que coincide se
+ * responde con 304 sin leer de MongoDB ni serializar nada.
+ *
+ * Las versiones se reinician con el proceso; el prefijo {@code epoch} evita que un
+ * ETag anterior al reinicio coincida con uno nuevo.
+ */
+@Service
+public class ConditionalRequestService {
+    public static final String BOARDS = "boards";
+    public static final String BOARD = "board";
+    public static final String NOTIFICATIONS = "notifications";
+
+    private final BoardSnapshotCache snapshotCache;
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+
+    private final AtomicLong workspaceVersion = new AtomicLong();
+    private final AtomicLong userVersion = new AtomicLong();
+    private final Map<String, AtomicLong> notificationVersions = new ConcurrentHashMap<>();
+    private final Map<String, Counters> counters = new ConcurrentHashMap<>();
+
+    public ConditionalRequestService(BoardSnapshotCache snapshotCache) {
+        this.snapshotCache = snapshotCache;
+    }
+
+    /**
+     * Todos los tableros con sus tareas: cambia con cualquier tablero, tarea o usuario.
+     */
+    public String boardsETag() {
+        return eTag("w" + workspaceVersion.get());
+    }
+
+    /**
+     * Un tablero con sus tareas: la versión del tablero más la de usuarios, porque
+     * el tablero muestra nombre y foto de los asignados.
+     */
+    public String boardETag(String boardId) {
+        return eTag("b" + snapshotCache.getVersion(boardId) + "-u" + userVersion.get());
+    }
+
+    public String notificationsETag(String userId) {
+        AtomicLong version = notificationVersions.get(userId);
+        return eTag("n" + (version != null ? version.get() : 0));
+    }
+
+    /**
+     * ETag de la representación comprimida con gzip: un ETag fuerte identifica los
+     * bytes enviados, así que no puede compartirse con la versión sin comprimir.
+     */
+    public static String gzipETag(String eTag) {
+        return eTag.substring(0, eTag.length() - 1) + "-gzip\"";
+    }
+
+    /**
+     * Compara el If-None-Match recibido con el ETag actual y registra el resultado
+     * en las métricas del recurso.
+     */
+    public boolean isNotModified(String resource, String ifNoneMatch, String eTag) {
+        return matchingETag(resource, ifNoneMatch, eTag) != null;
+    }
+
+    /**
+     * Como {@link #isNotModified}, para un recurso con varias representaciones vigentes:
+     * devuelve la primera de {@code eTags} que coincide, o null si ninguna.
+     */
+    public String matchingETag(String resource, String ifNoneMatch, String... eTags) {
+        String matched = null;
+        for (String eTag : eTags) {
+            if (matches(ifNoneMatch, eTag)) {
+                matched = eTag;
+                break;
+            }
+        }
+
+        Counters resourceCounters = counters.computeIfAbsent(resource, key -> new Counters());
+        resourceCounters.requests.incrementAndGet();
+        if (matched != null) {
+            resourceCounters.notModified.incrementAndGet();
+        }
+        return matched;
+    }
+
+    public List<ConditionalRequestStats> getStats() {
+        return counters.entrySet().stream()
+                .<ConditionalRequestStats>map(entry -> {
+                    long requests = entry.getValue().requests.get();
+                    long notModified = entry.getValue().notModified.get();
+
+                    return ConditionalRequestStats.builder()
+                            .resource(entry.getKey())
+                            .requests(requests)
+                            .notModified(notModified)
+                            .hitRate(requests == 0 ? 0 : (double) notModified / requests)
+                            .build();
+                })
+                .toList();
+    }
+
+    @EventListener
+    public void onTaskChanged(TaskChangedEvent event) {
+        workspaceVersion.incrementAndGet();
+    }
+
+    @EventListener
+    public void onBoardChanged(BoardChangedEvent event) {
+        workspaceVersion.incrementAndGet();
+    }
+
+    @EventListener
+    public void onUserChanged(UserChangedEvent event) {
+        workspaceVersion.incrementAndGet();
+        userVersion.incrementAndGet();
+    }
+
+    @EventListener
+    public void onNotificationChanged(NotificationChangedEvent event) {
+        notificationVersions.computeIfAbsent(event.getUserId(), key -> new AtomicLong()).incrementAndGet();
+    }
+
+    private String eTag(String version) {
+        return "\"" + epoch + "-" + version + "\"";
+    }
+
+    /**
+     * If-None-Match admite una lista separada por comas, {@code *} y ETags débiles;
+     * para GET la comparación es débil, así que se ignora el prefijo W/.
+     */
+    private boolean matches(String ifNoneMatch, String eTag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals(eTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static class Counters {
+        private final AtomicLong requests = new AtomicLong();
+        private final AtomicLong notModified = new AtomicLong();
+    }
+}
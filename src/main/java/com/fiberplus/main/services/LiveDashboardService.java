@@ -0,0 +1,103 @@
+package com.fiberplus.main.services;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.fiberplus.main.dtos.report.ReportDto;
+import com.fiberplus.main.events.BoardChangedEvent;
+import com.fiberplus.main.events.TaskChangedEvent;
+
+/**
+ * Dashboard precalculado en segundo plano. Cada {@code reports.dashboard.refresh-seconds}
+ * se recalcula en el hilo del scheduler, solo si cambió alguna tarea o tablero o si
+ * empezó otro día, y las peticiones HTTP leen la última versión desde memoria.
+ * Cada versión nueva publica su resumen en {@value #DASHBOARD_TOPIC}, que exige un
+ * usuario autenticado; el detalle y los usuarios disponibles solo viajan por HTTP.
+ */
+@Service
+public class LiveDashboardService {
+    private static final Logger logger = LoggerFactory.getLogger(LiveDashboardService.class);
+
+    public static final String DASHBOARD_TOPIC = "/topic/dashboard";
+
+    private final ReportService reportService;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final SingleFlightService singleFlight;
+    private final AtomicReference<ReportDto> current = new AtomicReference<>();
+    private final AtomicBoolean dirty = new AtomicBoolean(true);
+    private volatile LocalDate refreshedOn;
+
+    public LiveDashboardService(ReportService reportService, SimpMessagingTemplate messagingTemplate,
+            SingleFlightService singleFlight) {
+        this.reportService = reportService;
+        this.messagingTemplate = messagingTemplate;
+        this.singleFlight = singleFlight;
+    }
+
+    /**
+     * Última versión calculada. Solo antes del primer refresco se calcula en la petición,
+     * una sola vez aunque lleguen varias a la vez.
+     */
+    public ReportDto getDashboard() {
+        ReportDto dashboard = current.get();
+        if (dashboard != null) {
+            return dashboard;
+        }
+        ReportDto computed = singleFlight.execute("dashboard", "", reportService::generateDashboard);
+        return current.compareAndSet(null, computed) ? computed : current.get();
+    }
+
+    /**
+     * Un dashboard con secciones incompletas no reemplaza a uno completo: se
+     * conserva el anterior hasta el siguiente refresco.
+     */
+    @Scheduled(fixedDelayString = "${reports.dashboard.refresh-seconds:10}", timeUnit = TimeUnit.SECONDS)
+    public void refresh() {
+        LocalDate today = LocalDate.now();
+        if (!dirty.getAndSet(false) && today.equals(refreshedOn)) {
+            return;
+        }
+
+        try {
+            ReportDto dashboard = reportService.generateDashboard();
+            ReportDto previous = current.get();
+
+            if (dashboard.getIncompleteSections() != null && previous != null
+                    && previous.getIncompleteSections() == null) {
+                dirty.set(true);
+                logger.warn("⚠️ Dashboard incompleto ({}), se mantiene la versión anterior",
+                        dashboard.getIncompleteSections());
+                return;
+            }
+
+            current.set(dashboard);
+            refreshedOn = today;
+            messagingTemplate.convertAndSend(DASHBOARD_TOPIC, dashboard.getSummary());
+            logger.debug("📤 Dashboard actualizado y resumen publicado en {}", DASHBOARD_TOPIC);
+        } catch (Exception e) {
+            dirty.set(true);
+            logger.error("❌ Error al refrescar el dashboard: {}", e.getMessage());
+        }
+    }
+
+    @EventListener
+    public void onTaskChanged(TaskChangedEvent event) {
+        if (event.changesReports()) {
+            dirty.set(true);
+        }
+    }
+
+    @EventListener
+    public void onBoardChanged(BoardChangedEvent event) {
+        dirty.set(true);
+    }
+}
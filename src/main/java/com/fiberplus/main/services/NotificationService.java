@@ -5,12 +5,14 @@ import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 
 import com.fiberplus.main.dtos.NotificationDto;
 import com.fiberplus.main.entities.NotificationEntity;
 import com.fiberplus.main.enums.NotificationType;
+import com.fiberplus.main.events.NotificationChangedEvent;
 import com.fiberplus.main.exception.ResourceNotFoundException;
 import com.fiberplus.main.repositories.INotificationRepository;
 
@@ -21,6 +23,7 @@ import lombok.RequiredArgsConstructor;
 public class NotificationService {
     private final INotificationRepository notificationRepo;
     private final SimpMessagingTemplate messagingTemplate;
+    private final ApplicationEventPublisher eventPublisher;
     
     public NotificationDto createAndSendNotification(
             String userId, 
@@ -49,6 +52,7 @@ public class NotificationService {
         notification.setCreatedAt(now);
         notification.setUpdatedAt(now);
         notification = notificationRepo.save(notification);
+        eventPublisher.publishEvent(new NotificationChangedEvent(userId));
         
         NotificationDto dto = entityToDto(notification);
         
@@ -65,6 +69,42 @@ public class NotificationService {
         return dto;
     }
     
+    /**
+     * Guarda varias notificaciones con un único insertMany y las envía por WebSocket.
+     * Completa id, estado de lectura y fechas de cada una.
+     */
+    public List<NotificationDto> createAndSendNotifications(List<NotificationEntity> notifications) {
+        if (notifications.isEmpty()) {
+            return List.of();
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        notifications.forEach(notification -> {
+            notification.setId(UUID.randomUUID().toString());
+            notification.setRead(false);
+            notification.setCreatedAt(now);
+            notification.setUpdatedAt(now);
+        });
+
+        List<NotificationDto> dtos = notificationRepo.insert(notifications)
+                .stream()
+                .map(this::entityToDto)
+                .collect(Collectors.toList());
+        dtos.stream()
+                .map(NotificationDto::getUserId)
+                .distinct()
+                .forEach(userId -> eventPublisher.publishEvent(new NotificationChangedEvent(userId)));
+
+        for (NotificationDto dto : dtos) {
+            try {
+                messagingTemplate.convertAndSendToUser(dto.getUserId(), "/queue/notifications", dto);
+            } catch (Exception e) {
+                System.err.println("Error enviando notificación por WebSocket: " + e.getMessage());
+            }
+        }
+        return dtos;
+    }
+
     public List<NotificationDto> getUserNotifications(String userId) {
         return notificationRepo.findByUserIdOrderByCreatedAtDesc(userId)
                 .stream()
@@ -91,6 +131,7 @@ public class NotificationService {
         notification.setRead(true);
         notification.setUpdatedAt(LocalDateTime.now());
         notification = notificationRepo.save(notification);
+        eventPublisher.publishEvent(new NotificationChangedEvent(notification.getUserId()));
         
         return entityToDto(notification);
     }
@@ -106,6 +147,7 @@ public class NotificationService {
         });
         
         notificationRepo.saveAll(notifications);
+        eventPublisher.publishEvent(new NotificationChangedEvent(userId));
     }
     
     public void deleteNotification(String notificationId) {
@@ -114,6 +156,7 @@ public class NotificationService {
                         "No se encontró la notificación con id ", "id", notificationId));
         
         notificationRepo.delete(notification);
+        eventPublisher.publishEvent(new NotificationChangedEvent(notification.getUserId()));
     }
     
     public void deleteReadNotifications(String userId) {
@@ -121,6 +164,7 @@ public class NotificationService {
                 notificationRepo.findByUserIdAndReadOrderByCreatedAtDesc(userId, true);
         
         notificationRepo.deleteAll(readNotifications);
+        eventPublisher.publishEvent(new NotificationChangedEvent(userId));
     }
     
     private NotificationDto entityToDto(NotificationEntity entity) {
@@ -0,0 +1,99 @@
+package com.fiberplus.main.services;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.fiberplus.main.common.RankKeys;
+import com.fiberplus.main.entities.TaskEntity;
+import com.fiberplus.main.events.TaskChangedEvent;
+import com.fiberplus.main.repositories.TaskQueryRepository;
+import com.fiberplus.main.repositories.TaskWriteRepository;
+
+/**
+ * Redistribuye los ranks de un tablero cuando alguna clave supera
+ * {@link RankKeys#MAX_LENGTH} por inserciones repetidas en el mismo hueco, o cuando
+ * tiene tareas sin rank. Se ejecuta en segundo plano cada
+ * {@code tasks.rank.rebalance-seconds}, nunca en la petición que movió la tarea.
+ */
+@Service
+public class RankRebalanceService {
+    private static final Logger logger = LoggerFactory.getLogger(RankRebalanceService.class);
+
+    private final TaskQueryRepository taskQueries;
+    private final TaskWriteRepository taskWrites;
+    private final ChangeSequenceService changeSequence;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Set<String> pendingBoards = ConcurrentHashMap.newKeySet();
+
+    public RankRebalanceService(TaskQueryRepository taskQueries, TaskWriteRepository taskWrites,
+            ChangeSequenceService changeSequence, ApplicationEventPublisher eventPublisher) {
+        this.taskQueries = taskQueries;
+        this.taskWrites = taskWrites;
+        this.changeSequence = changeSequence;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * Marca el tablero si la clave recién asignada ya es demasiado larga.
+     */
+    public void checkLength(String boardId, String rank) {
+        if (rank == null || rank.length() > RankKeys.MAX_LENGTH) {
+            pendingBoards.add(boardId);
+        }
+    }
+
+    /**
+     * Las tareas creadas antes de los ranks se ordenan la primera vez que arranca la aplicación.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void scheduleUnrankedBoards() {
+        try {
+            pendingBoards.addAll(taskQueries.findBoardIdsWithoutRank());
+        } catch (Exception e) {
+            logger.error("❌ Error al buscar tableros sin rank: {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${tasks.rank.rebalance-seconds:60}", timeUnit = TimeUnit.SECONDS)
+    public void rebalancePending() {
+        for (String boardId : List.copyOf(pendingBoards)) {
+            pendingBoards.remove(boardId);
+            try {
+                rebalance(boardId);
+            } catch (Exception e) {
+                pendingBoards.add(boardId);
+                logger.error("❌ Error al redistribuir ranks del tablero {}: {}", boardId, e.getMessage());
+            }
+        }
+    }
+
+    private void rebalance(String boardId) {
+        List<TaskEntity> tasks = taskQueries.findRanks(boardId);
+        if (tasks.isEmpty()) {
+            return;
+        }
+
+        List<String> ranks = RankKeys.spread(tasks.size());
+        int updated = changeSequence.recordBatch(tasks.size(),
+                firstSeq -> taskWrites.replaceRanks(tasks, ranks, firstSeq));
+
+        // Una tarea movida mientras tanto conserva su clave; se vuelve a revisar en la próxima pasada
+        if (updated < tasks.size()) {
+            pendingBoards.add(boardId);
+        }
+
+        eventPublisher.publishEvent(new TaskChangedEvent(null, TaskChangedEvent.Type.REORDERED,
+                Set.of(boardId), Set.of()));
+        logger.info("🔀 Ranks del tablero {} redistribuidos ({} de {} tareas)", boardId, updated, tasks.size());
+    }
+}
@@ -0,0 +1,149 @@
+package com.fiberplus.main.services;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import com.fiberplus.main.dtos.report.ReportCacheStats;
+import com.fiberplus.main.dtos.report.ReportDto;
+import com.fiberplus.main.events.BoardChangedEvent;
+import com.fiberplus.main.events.TaskChangedEvent;
+
+/**
+ * Caché en memoria de reportes ya calculados, con expulsión LRU por cantidad de
+ * entradas y un TTL por entrada. Se invalida con los eventos de tareas y tableros:
+ * solo se descartan los reportes cuyo alcance incluye el tablero o usuario afectado.
+ */
+@Service
+public class ReportCacheService {
+    private static final Logger logger = LoggerFactory.getLogger(ReportCacheService.class);
+
+    private final int maxEntries;
+    private final long ttlSeconds;
+    private final LinkedHashMap<Key, Entry> entries;
+
+    private long generation;
+    private long hits;
+    private long misses;
+    private long evictions;
+    private long invalidations;
+
+    public ReportCacheService(@Value("${reports.cache.max-entries:200}") int maxEntries,
+            @Value("${reports.cache.ttl-seconds:300}") long ttlSeconds) {
+        this.maxEntries = maxEntries;
+        this.ttlSeconds = ttlSeconds;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                if (size() > ReportCacheService.this.maxEntries) {
+                    evictions++;
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Devuelve el reporte en caché o lo calcula fuera del lock. Si hubo una
+     * invalidación mientras se calculaba, o el reporte quedó con secciones
+     * incompletas, el resultado se entrega pero no se guarda.
+     */
+    public ReportDto getOrCompute(Key key, Supplier<ReportDto> loader) {
+        long startGeneration;
+        synchronized (this) {
+            Entry entry = entries.get(key);
+            if (entry != null && entry.expiresAt().isAfter(LocalDateTime.now())) {
+                hits++;
+                return entry.report();
+            }
+            if (entry != null) {
+                entries.remove(key);
+                evictions++;
+            }
+            misses++;
+            startGeneration = generation;
+        }
+
+        ReportDto report = loader.get();
+
+        synchronized (this) {
+            if (generation == startGeneration && report.getIncompleteSections() == null) {
+                entries.put(key, new Entry(report, LocalDateTime.now().plusSeconds(ttlSeconds)));
+            }
+        }
+        return report;
+    }
+
+    @EventListener
+    public synchronized void onTaskChanged(TaskChangedEvent event) {
+        if (!event.changesReports()) {
+            return;
+        }
+        generation++;
+        int before = entries.size();
+
+        if (event.changesBoardCounts()) {
+            entries.clear();
+        } else {
+            entries.keySet().removeIf(key -> key.isAffectedBy(event.getBoardIds(), event.getUserIds()));
+        }
+
+        invalidations += before - entries.size();
+        logger.debug("🗑️ Reportes invalidados por tarea {} ({}): {}", event.getTaskId(), event.getType(),
+                before - entries.size());
+    }
+
+    /**
+     * Los nombres y conteos de tableros aparecen en todos los reportes.
+     */
+    @EventListener
+    public synchronized void onBoardChanged(BoardChangedEvent event) {
+        generation++;
+        invalidations += entries.size();
+        entries.clear();
+    }
+
+    public synchronized ReportCacheStats getStats() {
+        long requests = hits + misses;
+
+        return ReportCacheStats.builder()
+                .size(entries.size())
+                .maxEntries(maxEntries)
+                .ttlSeconds(ttlSeconds)
+                .hits(hits)
+                .misses(misses)
+                .evictions(evictions)
+                .invalidations(invalidations)
+                .hitRate(requests == 0 ? 0 : (double) hits / requests)
+                .build();
+    }
+
+    /**
+     * Clave de un reporte.
+     */
+    public record Key(String reportType, String boardId, String userId,
+            LocalDateTime startDate, LocalDateTime endDate) {
+
+        boolean isAffectedBy(Set<String> boardIds, Set<String> userIds) {
+            if (boardId != null) {
+                return boardIds.contains(boardId);
+            }
+            if (userId != null) {
+                return userIds.contains(userId);
+            }
+            return true;
+        }
+    }
+
+    private record Entry(ReportDto report, LocalDateTime expiresAt) {
+    }
+}
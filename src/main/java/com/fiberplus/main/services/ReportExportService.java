@@ -0,0 +1,154 @@
+package com.fiberplus.main.services;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fiberplus.main.dtos.report.ReportTaskDetail;
+import com.fiberplus.main.entities.TaskCompletionEntity;
+import com.fiberplus.main.entities.TaskEntity;
+import com.fiberplus.main.repositories.IBoardRepository;
+import com.fiberplus.main.repositories.ITaskCompletionRepository;
+import com.fiberplus.main.repositories.IUserRepository;
+import com.fiberplus.main.repositories.ReportAggregationRepository;
+
+/**
+ * Exportación del detalle de tareas como CSV o NDJSON. Las tareas se leen de un
+ * cursor en bloques de {@value #CHUNK_SIZE}; por bloque se trae una sola consulta de
+ * completaciones y las filas se escriben directo a la respuesta.
+ */
+@Service
+public class ReportExportService {
+    private static final Logger logger = LoggerFactory.getLogger(ReportExportService.class);
+    private static final int CHUNK_SIZE = 500;
+    private static final String CSV_HEADER = "taskId,taskTitle,boardName,priority,status,createdAt,completedAt,"
+            + "completedBy,completedByName,completionDescription,completionNotes,evidenceUrls,assignedUsers";
+
+    public enum Format { CSV, NDJSON }
+
+    private final ReportAggregationRepository reportRepo;
+    private final ITaskCompletionRepository completionRepo;
+    private final IBoardRepository boardRepo;
+    private final IUserRepository userRepo;
+    private final ObjectMapper objectMapper;
+
+    public ReportExportService(ReportAggregationRepository reportRepo, ITaskCompletionRepository completionRepo,
+            IBoardRepository boardRepo, IUserRepository userRepo, ObjectMapper objectMapper) {
+        this.reportRepo = reportRepo;
+        this.completionRepo = completionRepo;
+        this.boardRepo = boardRepo;
+        this.userRepo = userRepo;
+        this.objectMapper = objectMapper;
+    }
+
+    public StreamingResponseBody export(Format format, String boardId, String userId,
+            LocalDateTime startDate, LocalDateTime endDate) {
+        ReportScope scope = ReportScope.of(boardId, userId);
+
+        return outputStream -> {
+            ReportHydrationContext hydration = new ReportHydrationContext(boardRepo, userRepo).preloadAll();
+            Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+            int rows = 0;
+
+            if (format == Format.CSV) {
+                writer.write(CSV_HEADER);
+                writer.write('\n');
+            }
+
+            List<TaskEntity> chunk = new ArrayList<>(CHUNK_SIZE);
+            try (Stream<TaskEntity> tasks = reportRepo.streamCompletedTasks(scope.criteria(), startDate, endDate)) {
+                Iterator<TaskEntity> iterator = tasks.iterator();
+                while (iterator.hasNext()) {
+                    chunk.add(iterator.next());
+                    if (chunk.size() == CHUNK_SIZE) {
+                        rows += writeChunk(writer, format, chunk, hydration);
+                        chunk.clear();
+                    }
+                }
+                rows += writeChunk(writer, format, chunk, hydration);
+            }
+
+            writer.flush();
+            logger.info("📤 Exportación {} finalizada: {} filas", format, rows);
+        };
+    }
+
+    private int writeChunk(Writer writer, Format format, List<TaskEntity> chunk,
+            ReportHydrationContext hydration) throws IOException {
+        if (chunk.isEmpty()) {
+            return 0;
+        }
+
+        Set<String> taskIds = chunk.stream().map(TaskEntity::getId).collect(Collectors.toSet());
+        Map<String, TaskCompletionEntity> completionMap = completionRepo.findByTaskIdIn(taskIds).stream()
+                .collect(Collectors.toMap(TaskCompletionEntity::getTaskId, c -> c, (c1, c2) -> c1));
+
+        for (TaskEntity task : chunk) {
+            ReportTaskDetail detail = hydration.toTaskDetail(task, completionMap.get(task.getId()));
+            if (format == Format.CSV) {
+                writeCsvRow(writer, detail);
+            } else {
+                writer.write(objectMapper.writeValueAsString(detail));
+            }
+            writer.write('\n');
+        }
+
+        writer.flush();
+        return chunk.size();
+    }
+
+    private void writeCsvRow(Writer writer, ReportTaskDetail detail) throws IOException {
+        String[] values = {
+                detail.getTaskId(),
+                detail.getTaskTitle(),
+                detail.getBoardName(),
+                detail.getPriority(),
+                detail.getStatus(),
+                toText(detail.getCreatedAt()),
+                toText(detail.getCompletedAt()),
+                detail.getCompletedBy(),
+                detail.getCompletedByName(),
+                detail.getCompletionDescription(),
+                detail.getCompletionNotes(),
+                detail.getEvidenceUrls() != null ? String.join("|", detail.getEvidenceUrls()) : null,
+                detail.getAssignedUsers() != null ? String.join("|", detail.getAssignedUsers()) : null
+        };
+
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(escapeCsv(values[i]));
+        }
+    }
+
+    private String toText(LocalDateTime dateTime) {
+        return dateTime != null ? dateTime.toString() : null;
+    }
+
+    private String escapeCsv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,137 @@
+package com.fiberplus.main.services;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import com.fiberplus.main.dtos.report.ReportTaskDetail;
+import com.fiberplus.main.entities.BoardEntity;
+import com.fiberplus.main.entities.TaskCompletionEntity;
+import com.fiberplus.main.entities.TaskEntity;
+import com.fiberplus.main.entities.UserEntity;
+import com.fiberplus.main.repositories.IBoardRepository;
+import com.fiberplus.main.repositories.IUserRepository;
+
+/**
+ * Diccionario de tableros y usuarios con alcance de un reporte.
+ * Reúne todos los IDs referenciados y los resuelve con un findAllById por colección,
+ * así el número de consultas no depende del tamaño del reporte.
+ */
+public class ReportHydrationContext {
+    private final IBoardRepository boardRepo;
+    private final IUserRepository userRepo;
+
+    private final Map<String, BoardEntity> boards = new HashMap<>();
+    private final Map<String, UserEntity> users = new HashMap<>();
+    private int queryCount;
+
+    public ReportHydrationContext(IBoardRepository boardRepo, IUserRepository userRepo) {
+        this.boardRepo = boardRepo;
+        this.userRepo = userRepo;
+    }
+
+    /**
+     * Precarga los tableros, asignados y autores de completación de las tareas dadas.
+     */
+    public ReportHydrationContext preload(Collection<TaskEntity> tasks,
+            Collection<TaskCompletionEntity> completions) {
+        Set<String> boardIds = new HashSet<>();
+        Set<String> userIds = new HashSet<>();
+
+        for (TaskEntity task : tasks) {
+            boardIds.add(task.getBoardId());
+            if (task.getAssignedTo() != null) {
+                userIds.addAll(task.getAssignedTo());
+            }
+        }
+        for (TaskCompletionEntity completion : completions) {
+            userIds.add(completion.getCompletedBy());
+        }
+
+        return preload(boardIds, userIds);
+    }
+
+    public ReportHydrationContext preload(Set<String> boardIds, Set<String> userIds) {
+        boardIds.removeIf(Objects::isNull);
+        boardIds.removeAll(boards.keySet());
+        userIds.removeIf(Objects::isNull);
+        userIds.removeAll(users.keySet());
+
+        if (!boardIds.isEmpty()) {
+            boardRepo.findAllById(boardIds).forEach(board -> boards.put(board.getId(), board));
+            queryCount++;
+        }
+        if (!userIds.isEmpty()) {
+            userRepo.findAllById(userIds).forEach(user -> users.put(user.getId(), user));
+            queryCount++;
+        }
+        return this;
+    }
+
+    /**
+     * Carga el diccionario completo de tableros y usuarios, para cuando las tareas
+     * llegan desde un cursor y no se conocen de antemano.
+     */
+    public ReportHydrationContext preloadAll() {
+        boardRepo.findAll().forEach(board -> boards.put(board.getId(), board));
+        userRepo.findAll().forEach(user -> users.put(user.getId(), user));
+        queryCount += 2;
+        return this;
+    }
+
+    public String boardName(String boardId) {
+        BoardEntity board = boardId != null ? boards.get(boardId) : null;
+        return board != null ? board.getTitle() : "Tablero desconocido";
+    }
+
+    public String userName(String userId, String fallback) {
+        UserEntity user = userId != null ? users.get(userId) : null;
+        return user != null ? user.getName() + " " + user.getLastname() : fallback;
+    }
+
+    public ReportTaskDetail toTaskDetail(TaskEntity task, TaskCompletionEntity completion) {
+        List<String> assignedUserNames = new ArrayList<>();
+        if (task.getAssignedTo() != null) {
+            assignedUserNames = task.getAssignedTo().stream()
+                    .map(userId -> userName(userId, userId))
+                    .collect(Collectors.toList());
+        }
+
+        String completedByName = "";
+        String completedById = null;
+        if (completion != null) {
+            completedById = completion.getCompletedBy();
+            completedByName = userName(completedById, "Usuario desconocido");
+        }
+
+        return ReportTaskDetail.builder()
+                .taskId(task.getId())
+                .taskTitle(task.getTitle())
+                .boardName(boardName(task.getBoardId()))
+                .priority(task.getPriority())
+                .status(task.getStatus() != null ? task.getStatus()
+                        : (completion != null ? "CERRADO" : "ABIERTO"))
+                .createdAt(task.getCreatedAt())
+                .completedAt(completion != null ? completion.getCompletedAt() : null)
+                .completedBy(completedById)
+                .completedByName(completedByName)
+                .completionDescription(completion != null ? completion.getDescription() : null)
+                .completionNotes(completion != null ? completion.getNotes() : null)
+                .evidenceUrls(completion != null ? completion.getImageUrls() : new ArrayList<>())
+                .assignedUsers(assignedUserNames)
+                .build();
+    }
+
+    /**
+     * Consultas a MongoDB hechas por este contexto; a lo sumo una por colección.
+     */
+    public int getQueryCount() {
+        return queryCount;
+    }
+}
@@ -0,0 +1,224 @@
+package com.fiberplus.main.services;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.fiberplus.main.dtos.report.ReportDto;
+import com.fiberplus.main.dtos.report.ReportJobDto;
+import com.fiberplus.main.enums.ReportJobStatus;
+import com.fiberplus.main.exception.ConflictException;
+import com.fiberplus.main.exception.GenericException;
+import com.fiberplus.main.exception.ResourceNotFoundException;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Generación de reportes en segundo plano para rangos grandes. Los trabajos corren
+ * en un pool propio y acotado; las solicitudes idénticas mientras un trabajo sigue
+ * en curso se adjuntan a ese mismo trabajo.
+ */
+@Service
+public class ReportJobService {
+    private static final Logger logger = LoggerFactory.getLogger(ReportJobService.class);
+
+    private final ReportService reportService;
+    private final long retentionMinutes;
+    private final ThreadPoolExecutor executor;
+
+    private final Map<String, ReportJob> jobs = new ConcurrentHashMap<>();
+    private final Map<ReportCacheService.Key, ReportJob> activeJobs = new ConcurrentHashMap<>();
+
+    public ReportJobService(ReportService reportService,
+            @Value("${reports.jobs.pool-size:2}") int poolSize,
+            @Value("${reports.jobs.queue-capacity:20}") int queueCapacity,
+            @Value("${reports.jobs.retention-minutes:30}") long retentionMinutes) {
+        this.reportService = reportService;
+        this.retentionMinutes = retentionMinutes;
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "report-job-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    public ReportJobDto submit(String reportType, String boardId, String userId,
+            LocalDateTime startDate, LocalDateTime endDate) {
+        ReportCacheService.Key key = new ReportCacheService.Key(reportType, boardId, userId, startDate, endDate);
+
+        try {
+            ReportJob job = activeJobs.computeIfAbsent(key, this::startJob);
+            return toDto(job);
+        } catch (RejectedExecutionException e) {
+            throw new GenericException("Hay demasiados reportes en proceso, intente nuevamente más tarde");
+        }
+    }
+
+    public ReportJobDto getJob(String jobId) {
+        return toDto(findJob(jobId));
+    }
+
+    public ReportDto getResult(String jobId) {
+        ReportJob job = findJob(jobId);
+        if (job.status != ReportJobStatus.COMPLETED) {
+            throw new ConflictException("El reporte aún no está disponible (estado: " + job.status + ")");
+        }
+        return job.result;
+    }
+
+    public ReportJobDto cancel(String jobId) {
+        ReportJob job = findJob(jobId);
+        if (!job.cancel()) {
+            throw new ConflictException("El trabajo ya finalizó con estado " + job.status);
+        }
+        activeJobs.remove(job.key, job);
+        logger.info("🛑 Trabajo de reporte cancelado: {}", jobId);
+
+        return toDto(job);
+    }
+
+    /**
+     * Descarta los trabajos terminados cuya retención ya venció.
+     */
+    @Scheduled(fixedDelay = 60_000)
+    public void purgeExpiredJobs() {
+        LocalDateTime limit = LocalDateTime.now().minusMinutes(retentionMinutes);
+        jobs.values().removeIf(job -> job.finishedAt != null && job.finishedAt.isBefore(limit));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private ReportJob startJob(ReportCacheService.Key key) {
+        ReportJob job = new ReportJob(UUID.randomUUID().toString(), key);
+        job.future = executor.submit(() -> run(job));
+        jobs.put(job.id, job);
+
+        logger.info("📥 Trabajo de reporte {} encolado: {} {}-{}", job.id, key.reportType(),
+                key.startDate(), key.endDate());
+        return job;
+    }
+
+    private void run(ReportJob job) {
+        if (!job.start()) {
+            return;
+        }
+        try {
+            job.complete(generate(job.key));
+            logger.info("✅ Trabajo de reporte {} completado", job.id);
+        } catch (Exception e) {
+            job.fail(e.getMessage());
+            logger.error("❌ Error en trabajo de reporte {}: {}", job.id, e.getMessage());
+        } finally {
+            activeJobs.remove(job.key, job);
+        }
+    }
+
+    private ReportDto generate(ReportCacheService.Key key) {
+        if (key.boardId() != null) {
+            return reportService.generateBoardReport(key.boardId(), key.startDate(), key.endDate());
+        }
+        if (key.userId() != null) {
+            return reportService.generateUserReport(key.userId(), key.startDate(), key.endDate());
+        }
+        return reportService.generateReport(key.startDate(), key.endDate(), key.reportType());
+    }
+
+    private ReportJob findJob(String jobId) {
+        ReportJob job = jobs.get(jobId);
+        if (job == null) {
+            throw new ResourceNotFoundException("No se encontró el trabajo de reporte con id ", "id", jobId);
+        }
+        return job;
+    }
+
+    private ReportJobDto toDto(ReportJob job) {
+        return ReportJobDto.builder()
+                .jobId(job.id)
+                .status(job.status)
+                .reportType(job.key.reportType())
+                .boardId(job.key.boardId())
+                .userId(job.key.userId())
+                .startDate(job.key.startDate())
+                .endDate(job.key.endDate())
+                .createdAt(job.createdAt)
+                .startedAt(job.startedAt)
+                .finishedAt(job.finishedAt)
+                .error(job.error)
+                .build();
+    }
+
+    private static class ReportJob {
+        private final String id;
+        private final ReportCacheService.Key key;
+        private final LocalDateTime createdAt = LocalDateTime.now();
+
+        private volatile ReportJobStatus status = ReportJobStatus.PENDING;
+        private volatile LocalDateTime startedAt;
+        private volatile LocalDateTime finishedAt;
+        private volatile ReportDto result;
+        private volatile String error;
+        private volatile Future<?> future;
+
+        ReportJob(String id, ReportCacheService.Key key) {
+            this.id = id;
+            this.key = key;
+        }
+
+        synchronized boolean start() {
+            if (status != ReportJobStatus.PENDING) {
+                return false;
+            }
+            status = ReportJobStatus.RUNNING;
+            startedAt = LocalDateTime.now();
+            return true;
+        }
+
+        synchronized void complete(ReportDto report) {
+            if (status == ReportJobStatus.RUNNING) {
+                result = report;
+                status = ReportJobStatus.COMPLETED;
+                finishedAt = LocalDateTime.now();
+            }
+        }
+
+        synchronized void fail(String message) {
+            if (status == ReportJobStatus.RUNNING) {
+                error = message;
+                status = ReportJobStatus.FAILED;
+                finishedAt = LocalDateTime.now();
+            }
+        }
+
+        synchronized boolean cancel() {
+            if (status != ReportJobStatus.PENDING && status != ReportJobStatus.RUNNING) {
+                return false;
+            }
+            status = ReportJobStatus.CANCELLED;
+            finishedAt = LocalDateTime.now();
+            if (future != null) {
+                future.cancel(true);
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.fiberplus.main.services;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import com.fiberplus.main.entities.ReportRollupEntity;
+import com.fiberplus.main.entities.TaskCompletionEntity;
+import com.fiberplus.main.entities.TaskEntity;
+import com.fiberplus.main.repositories.ITaskCompletionRepository;
+import com.fiberplus.main.repositories.ITaskRepository;
+import com.fiberplus.main.repositories.ReportRollupRepository;
+
+/**
+ * Mantiene la colección report_rollups: un documento por (día, tablero, usuario)
+ * con las completaciones, evidencias y horas acumuladas de ese día, más el
+ * histograma de horas de resolución.
+ */
+@Service
+public class ReportRollupService {
+    private static final Logger logger = LoggerFactory.getLogger(ReportRollupService.class);
+
+    private final ReportRollupRepository rollupRepo;
+    private final ITaskRepository taskRepo;
+    private final ITaskCompletionRepository completionRepo;
+
+    public ReportRollupService(ReportRollupRepository rollupRepo, ITaskRepository taskRepo,
+            ITaskCompletionRepository completionRepo) {
+        this.rollupRepo = rollupRepo;
+        this.taskRepo = taskRepo;
+        this.completionRepo = completionRepo;
+    }
+
+    /**
+     * Registra la completación que cierra una tarea; las siguientes sobre una tarea ya
+     * cerrada no se registran. El día es el del cierre de la tarea, que es la fecha por
+     * la que filtran los reportes.
+     */
+    public void recordCompletion(TaskEntity task, TaskCompletionEntity completion) {
+        long hours = completionHours(task.getCreatedAt(), completion);
+
+        rollupRepo.increment(
+                task.getClosedAt().toLocalDate(),
+                completion.getBoardId(),
+                completion.getCompletedBy(),
+                evidenceCount(completion),
+                hours,
+                CompletionStats.bucketOf(hours));
+    }
+
+    /**
+     * Una tarea cerrada que cambia de tablero lleva su completación al acumulado del
+     * tablero nuevo, porque los reportes agrupan las tareas por su tablero actual.
+     */
+    public void recordMove(TaskEntity task, String fromBoardId) {
+        if (!"CERRADO".equals(task.getStatus()) || task.getClosedAt() == null
+                || fromBoardId.equals(task.getBoardId())) {
+            return;
+        }
+        completionRepo.findFirstByTaskIdOrderByCreatedAtAsc(task.getId()).ifPresent(completion -> {
+            long hours = completionHours(task.getCreatedAt(), completion);
+            rollupRepo.transfer(
+                    task.getClosedAt().toLocalDate(),
+                    fromBoardId,
+                    task.getBoardId(),
+                    completion.getCompletedBy(),
+                    evidenceCount(completion),
+                    hours,
+                    CompletionStats.bucketOf(hours));
+        });
+    }
+
+    /**
+     * Recalcula todos los acumulados a partir de las completaciones existentes.
+     * Pensado para ejecutarse una vez tras el despliegue o para reparar datos.
+     * Como {@link #recordCompletion}, agrupa por el día de cierre de la tarea.
+     */
+    public int backfill() {
+        logger.info("🔄 Recalculando acumulados diarios de reportes");
+        LocalDateTime now = LocalDateTime.now();
+
+        Map<String, TaskEntity> closedTasks = new HashMap<>();
+        for (TaskEntity task : taskRepo.findLifecycleDatesByStatus("CERRADO")) {
+            if (task.getClosedAt() != null) {
+                closedTasks.put(task.getId(), task);
+            }
+        }
+
+        // Solo cuenta la primera completación de cada tarea, la que la cerró
+        Map<String, TaskCompletionEntity> firstCompletions = new HashMap<>();
+        try (Stream<TaskCompletionEntity> completions = completionRepo.streamAllBy()) {
+            completions
+                    .filter(completion -> closedTasks.containsKey(completion.getTaskId()))
+                    .forEach(completion -> firstCompletions.merge(completion.getTaskId(), completion,
+                            (current, candidate) -> recordedAt(candidate).isBefore(recordedAt(current))
+                                    ? candidate
+                                    : current));
+        }
+
+        Map<String, ReportRollupEntity> rollups = new HashMap<>();
+        firstCompletions.forEach((taskId, completion) -> {
+            TaskEntity task = closedTasks.get(taskId);
+            LocalDate day = task.getClosedAt().toLocalDate();
+            String id = ReportRollupEntity.rollupId(day, task.getBoardId(), completion.getCompletedBy());
+
+            ReportRollupEntity rollup = rollups.computeIfAbsent(id, key -> ReportRollupEntity.builder()
+                    .id(key)
+                    .day(day)
+                    .boardId(task.getBoardId())
+                    .userId(completion.getCompletedBy())
+                    .hoursHistogram(new HashMap<>())
+                    .createdAt(now)
+                    .updatedAt(now)
+                    .build());
+
+            rollup.setCompletedCount(rollup.getCompletedCount() + 1);
+            rollup.setEvidenceCount(rollup.getEvidenceCount() + evidenceCount(completion));
+            addHours(rollup, completionHours(task.getCreatedAt(), completion));
+        });
+
+        rollupRepo.replaceAll(rollups.values(), now);
+        logger.info("✅ Acumulados diarios recalculados: {} documentos", rollups.size());
+
+        return rollups.size();
+    }
+
+    private LocalDateTime recordedAt(TaskCompletionEntity completion) {
+        return completion.getCreatedAt() != null ? completion.getCreatedAt() : completion.getCompletedAt();
+    }
+
+    private void addHours(ReportRollupEntity rollup, long hours) {
+        rollup.setCompletionHours(rollup.getCompletionHours() + hours);
+        rollup.setMinHours(rollup.getMinHours() == null ? hours : Math.min(rollup.getMinHours(), hours));
+        rollup.setMaxHours(rollup.getMaxHours() == null ? hours : Math.max(rollup.getMaxHours(), hours));
+        rollup.getHoursHistogram().merge(String.valueOf(CompletionStats.bucketOf(hours)), 1L, Long::sum);
+    }
+
+    private long evidenceCount(TaskCompletionEntity completion) {
+        return completion.getImageUrls() != null ? completion.getImageUrls().size() : 0;
+    }
+
+    private long completionHours(LocalDateTime taskCreatedAt, TaskCompletionEntity completion) {
+        if (taskCreatedAt == null || completion.getCompletedAt() == null) {
+            return 0;
+        }
+        return Duration.between(taskCreatedAt, completion.getCompletedAt()).toHours();
+    }
+}
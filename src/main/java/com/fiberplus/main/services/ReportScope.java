@@ -0,0 +1,28 @@
+package com.fiberplus.main.services;
+
+import org.springframework.data.mongodb.core.query.Criteria;
+
+/**
+ * Alcance de un reporte. Los acumulados diarios se agrupan por quien completa la
+ * tarea, así que no sirven para el reporte por usuario asignado.
+ */
+record ReportScope(Criteria criteria, String boardId, boolean coveredByRollups) {
+    static ReportScope all() {
+        return new ReportScope(new Criteria(), null, true);
+    }
+
+    static ReportScope board(String boardId) {
+        return new ReportScope(Criteria.where("boardId").is(boardId), boardId, true);
+    }
+
+    static ReportScope user(String userId) {
+        return new ReportScope(Criteria.where("assignedTo").is(userId), null, false);
+    }
+
+    static ReportScope of(String boardId, String userId) {
+        if (boardId != null) {
+            return board(boardId);
+        }
+        return userId != null ? user(userId) : all();
+    }
+}
@@ -1,12 +1,24 @@
 package com.fiberplus.main.services;
 
-import java.time.Duration;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.stereotype.Service;
 
 import com.fiberplus.main.dtos.report.AvailableBoard;
@@ -17,118 +29,127 @@ import com.fiberplus.main.dtos.report.ReportSummary;
 import com.fiberplus.main.dtos.report.ReportTaskDetail;
 import com.fiberplus.main.dtos.report.UserPerformance;
 import com.fiberplus.main.entities.BoardEntity;
+import com.fiberplus.main.entities.ReportRollupEntity;
 import com.fiberplus.main.entities.TaskCompletionEntity;
 import com.fiberplus.main.entities.TaskEntity;
-import com.fiberplus.main.entities.UserEntity;
 import com.fiberplus.main.repositories.IBoardRepository;
 import com.fiberplus.main.repositories.ITaskCompletionRepository;
-import com.fiberplus.main.repositories.ITaskRepository;
 import com.fiberplus.main.repositories.IUserRepository;
+import com.fiberplus.main.repositories.ReportAggregationRepository;
+import com.fiberplus.main.repositories.ReportAggregationRepository.CompletionTime;
+import com.fiberplus.main.repositories.ReportRollupRepository;
+
+import jakarta.annotation.PreDestroy;
 
 @Service
 public class ReportService {
     private static final Logger logger = LoggerFactory.getLogger(ReportService.class);
+    private static final LocalTime END_OF_DAY = LocalTime.of(23, 59, 59);
 
-    private final ITaskRepository taskRepo;
     private final ITaskCompletionRepository completionRepo;
     private final IBoardRepository boardRepo;
     private final IUserRepository userRepo;
-
-    public ReportService(ITaskRepository taskRepo, IBoardRepository boardRepo,
-            ITaskCompletionRepository completionRepo, IUserRepository userRepo) {
-        this.taskRepo = taskRepo;
+    private final ReportAggregationRepository reportRepo;
+    private final ReportRollupRepository rollupRepo;
+    private final ReportCacheService reportCache;
+    private final long sectionTimeoutSeconds;
+    private final ExecutorService sectionExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public ReportService(IBoardRepository boardRepo,
+            ITaskCompletionRepository completionRepo, IUserRepository userRepo,
+            ReportAggregationRepository reportRepo, ReportRollupRepository rollupRepo,
+            ReportCacheService reportCache,
+            @Value("${reports.section-timeout-seconds:30}") long sectionTimeoutSeconds) {
         this.completionRepo = completionRepo;
         this.userRepo = userRepo;
         this.boardRepo = boardRepo;
+        this.reportRepo = reportRepo;
+        this.rollupRepo = rollupRepo;
+        this.reportCache = reportCache;
+        this.sectionTimeoutSeconds = sectionTimeoutSeconds;
     }
 
     public ReportDto generateReport(LocalDateTime startDate, LocalDateTime endDate, String reportType) {
         logger.info("📊 Generando reporte {} para {}-{}", reportType, startDate, endDate);
 
-        List<TaskEntity> allTasks = taskRepo.findAll();
-
-        List<TaskEntity> completedTasks = allTasks.stream()
-                .filter(task -> "CERRADO".equals(task.getStatus()))
-                .filter(task -> task.getClosedAt() != null
-                        && !task.getClosedAt().isBefore(startDate)
-                        && !task.getClosedAt().isAfter(endDate))
-                .collect(Collectors.toList());
-
-        Set<String> completedTaskIds = completedTasks.stream()
-                .map(TaskEntity::getId)
-                .collect(Collectors.toSet());
-
-        List<TaskCompletionEntity> completions = completionRepo.findByTaskIdIn(completedTaskIds);
-
-        ReportSummary summary = generateSummary(completedTasks, completions, allTasks);
-        List<ReportTaskDetail> taskDetails = generateTaskDetails(completedTasks, completions);
-
-        List<AvailableUser> availableUsers = loadAvailableUsers();
-        List<AvailableBoard> availableBoards = loadAvailableBoards();
-
-        return ReportDto.builder()
-                .reportId(UUID.randomUUID().toString())
-                .reportType(reportType)
-                .generatedAt(LocalDateTime.now())
-                .startDate(startDate)
-                .endDate(endDate)
-                .summary(summary)
-                .tasks(taskDetails)
-                .availableUsers(availableUsers)
-                .availableBoards(availableBoards)
-                .build();
+        return reportCache.getOrCompute(
+                new ReportCacheService.Key(reportType, null, null, startDate, endDate),
+                () -> buildReport(ReportScope.all(), startDate, endDate, reportType));
     }
 
     public ReportDto generateUserReport(String userId, LocalDateTime startDate, LocalDateTime endDate) {
         logger.info("📊 Generando reporte de usuario {} para {}-{}", userId, startDate, endDate);
 
-        List<TaskEntity> allTasks = taskRepo.findAll().stream()
-                .filter(t -> t.getAssignedTo() != null && t.getAssignedTo().contains(userId))
-                .collect(Collectors.toList());
+        return reportCache.getOrCompute(
+                new ReportCacheService.Key("BY_USER", null, userId, startDate, endDate),
+                () -> buildReport(ReportScope.user(userId), startDate, endDate, "BY_USER"));
+    }
 
-        List<TaskEntity> completedTasks = allTasks.stream()
-                .filter(task -> "CERRADO".equals(task.getStatus()))
-                .filter(task -> task.getClosedAt() != null
-                        && !task.getClosedAt().isBefore(startDate)
-                        && !task.getClosedAt().isAfter(endDate))
-                .collect(Collectors.toList());
+    public ReportDto generateBoardReport(String boardId, LocalDateTime startDate, LocalDateTime endDate) {
+        logger.info("📊 Generando reporte de tablero {} para {}-{}", boardId, startDate, endDate);
 
-        Set<String> completedTaskIds = completedTasks.stream()
-                .map(TaskEntity::getId)
-                .collect(Collectors.toSet());
+        return reportCache.getOrCompute(
+                new ReportCacheService.Key("BY_BOARD", boardId, null, startDate, endDate),
+                () -> buildReport(ReportScope.board(boardId), startDate, endDate, "BY_BOARD"));
+    }
 
-        List<TaskCompletionEntity> completions = completionRepo.findByTaskIdIn(completedTaskIds);
+    /**
+     * Dashboard de los últimos 30 días calendario, que es un rango cubierto
+     * por completo por los acumulados diarios. No pasa por la caché: lo recalcula
+     * periódicamente {@link LiveDashboardService}, que es quien lo sirve.
+     */
+    public ReportDto generateDashboard() {
+        logger.debug("📊 Generando dashboard (últimos 30 días)");
 
-        ReportSummary summary = generateSummary(completedTasks, completions, allTasks);
-        List<ReportTaskDetail> taskDetails = generateTaskDetails(completedTasks, completions);
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime thirtyDaysAgo = now.toLocalDate().minusDays(30).atStartOfDay();
 
-        List<AvailableUser> availableUsers = loadAvailableUsers();
-        List<AvailableBoard> availableBoards = loadAvailableBoards();
+        return buildReport(ReportScope.all(), thirtyDaysAgo, now, "DASHBOARD");
+    }
 
-        return ReportDto.builder()
+    /**
+     * Los conteos y estadísticas se calculan en MongoDB; solo viajan las tareas
+     * cerradas del rango, que son las que se listan en el detalle.
+     * Las cuatro secciones son independientes y se consultan en paralelo en hilos
+     * virtuales. Una sección que falla o excede el tiempo límite se devuelve vacía
+     * y queda listada en {@code incompleteSections}.
+     */
+    private ReportDto buildReport(ReportScope scope, LocalDateTime startDate, LocalDateTime endDate,
+            String reportType) {
+        Map<String, Long> timings = new ConcurrentHashMap<>();
+        List<String> incompleteSections = new ArrayList<>();
+
+        Future<ReportSummary> summary = fork("summary", timings,
+                () -> scope.coveredByRollups() && coversWholeDays(startDate, endDate)
+                        ? generateSummaryFromRollups(scope, startDate.toLocalDate(), lastRollupDay(endDate))
+                        : generateSummary(scope.criteria(), startDate, endDate));
+        Future<List<ReportTaskDetail>> taskDetails = fork("tasks", timings,
+                () -> loadTaskDetails(scope, startDate, endDate));
+        Future<List<AvailableUser>> availableUsers = fork("availableUsers", timings, this::loadAvailableUsers);
+        Future<List<AvailableBoard>> availableBoards = fork("availableBoards", timings, this::loadAvailableBoards);
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(sectionTimeoutSeconds);
+
+        ReportDto report = ReportDto.builder()
                 .reportId(UUID.randomUUID().toString())
-                .reportType("BY_USER")
+                .reportType(reportType)
                 .generatedAt(LocalDateTime.now())
                 .startDate(startDate)
                 .endDate(endDate)
-                .summary(summary)
-                .tasks(taskDetails)
-                .availableUsers(availableUsers)
-                .availableBoards(availableBoards)
+                .summary(join("summary", summary, deadline, emptySummary(), incompleteSections))
+                .tasks(join("tasks", taskDetails, deadline, List.of(), incompleteSections))
+                .availableUsers(join("availableUsers", availableUsers, deadline, List.of(), incompleteSections))
+                .availableBoards(join("availableBoards", availableBoards, deadline, List.of(), incompleteSections))
+                .incompleteSections(incompleteSections.isEmpty() ? null : incompleteSections)
                 .build();
-    }
-
-    public ReportDto generateBoardReport(String boardId, LocalDateTime startDate, LocalDateTime endDate) {
-        logger.info("📊 Generando reporte de tablero {} para {}-{}", boardId, startDate, endDate);
 
-        List<TaskEntity> boardTasks = taskRepo.findByBoardId(boardId);
+        logger.info("⏱️ Reporte {} por sección (ms): {}", reportType, timings);
+        return report;
+    }
 
-        List<TaskEntity> completedTasks = boardTasks.stream()
-                .filter(task -> "CERRADO".equals(task.getStatus()))
-                .filter(task -> task.getClosedAt() != null
-                        && !task.getClosedAt().isBefore(startDate)
-                        && !task.getClosedAt().isAfter(endDate))
-                .collect(Collectors.toList());
+    private List<ReportTaskDetail> loadTaskDetails(ReportScope scope, LocalDateTime startDate,
+            LocalDateTime endDate) {
+        List<TaskEntity> completedTasks = reportRepo.findCompletedTasks(scope.criteria(), startDate, endDate);
 
         Set<String> completedTaskIds = completedTasks.stream()
                 .map(TaskEntity::getId)
@@ -136,32 +157,67 @@ public class ReportService {
 
         List<TaskCompletionEntity> completions = completionRepo.findByTaskIdIn(completedTaskIds);
 
-        ReportSummary summary = generateSummary(completedTasks, completions, boardTasks);
-        List<ReportTaskDetail> taskDetails = generateTaskDetails(completedTasks, completions);
+        return generateTaskDetails(completedTasks, completions);
+    }
 
-        List<AvailableUser> availableUsers = loadAvailableUsers();
-        List<AvailableBoard> availableBoards = loadAvailableBoards();
+    private <T> Future<T> fork(String section, Map<String, Long> timings, Supplier<T> supplier) {
+        return sectionExecutor.submit(() -> {
+            long start = System.nanoTime();
+            try {
+                return supplier.get();
+            } finally {
+                timings.put(section, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            }
+        });
+    }
 
-        return ReportDto.builder()
-                .reportId(UUID.randomUUID().toString())
-                .reportType("BY_BOARD")
-                .generatedAt(LocalDateTime.now())
-                .startDate(startDate)
-                .endDate(endDate)
-                .summary(summary)
-                .tasks(taskDetails)
-                .availableUsers(availableUsers)
-                .availableBoards(availableBoards)
+    private <T> T join(String section, Future<T> future, long deadline, T fallback,
+            List<String> incompleteSections) {
+        try {
+            return future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            logger.warn("⚠️ Sección {} del reporte excedió {} s", section, sectionTimeoutSeconds);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            logger.error("❌ Error en sección {} del reporte: {}", section, e.getCause().getMessage());
+        }
+        incompleteSections.add(section);
+        return fallback;
+    }
+
+    private ReportSummary emptySummary() {
+        return ReportSummary.builder()
+                .userPerformance(List.of())
+                .boardStatistics(List.of())
                 .build();
     }
 
-    public ReportDto generateDashboard() {
-        logger.info("📊 Generando dashboard (últimos 30 días)");
+    @PreDestroy
+    public void shutdown() {
+        sectionExecutor.shutdownNow();
+    }
 
-        LocalDateTime now = LocalDateTime.now();
-        LocalDateTime thirtyDaysAgo = now.minusDays(30);
+    /**
+     * Los acumulados tienen granularidad diaria: solo sirven si el rango empieza a
+     * medianoche y termina al final de un día o en el momento actual.
+     */
+    private boolean coversWholeDays(LocalDateTime startDate, LocalDateTime endDate) {
+        if (!startDate.toLocalTime().equals(LocalTime.MIDNIGHT)) {
+            return false;
+        }
+        LocalTime endTime = endDate.toLocalTime();
+        return endTime.equals(LocalTime.MIDNIGHT)
+                || !endTime.isBefore(END_OF_DAY)
+                || !endDate.isBefore(LocalDateTime.now().minusMinutes(1));
+    }
 
-        return generateReport(thirtyDaysAgo, now, "DASHBOARD");
+    private LocalDate lastRollupDay(LocalDateTime endDate) {
+        return endDate.toLocalTime().equals(LocalTime.MIDNIGHT)
+                ? endDate.toLocalDate().minusDays(1)
+                : endDate.toLocalDate();
     }
 
     private List<AvailableUser> loadAvailableUsers() {
@@ -177,146 +233,156 @@ public class ReportService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Los conteos de todos los tableros activos salen de un único $group por boardId,
+     * sin traer documentos de tareas.
+     */
     private List<AvailableBoard> loadAvailableBoards() {
-        return boardRepo.findAll().stream()
+        List<BoardEntity> activeBoards = boardRepo.findAll().stream()
                 .filter(board -> "ACTIVE".equals(board.getStatus()))
-                .map(board -> {
-                    long taskCount = taskRepo.findByBoardId(board.getId()).size();
-
-                    return AvailableBoard.builder()
-                            .boardId(board.getId())
-                            .boardName(board.getTitle())
-                            .taskCount((int) taskCount)
-                            .createdAt(board.getCreatedAt())
-                            .build();
-                })
+                .collect(Collectors.toList());
+
+        Map<String, Integer> taskCounts = reportRepo.countTasksByBoard(Criteria.where("boardId")
+                .in(activeBoards.stream().map(BoardEntity::getId).collect(Collectors.toList())));
+
+        return activeBoards.stream()
+                .map(board -> AvailableBoard.builder()
+                        .boardId(board.getId())
+                        .boardName(board.getTitle())
+                        .taskCount(taskCounts.getOrDefault(board.getId(), 0))
+                        .createdAt(board.getCreatedAt())
+                        .build())
                 .sorted(Comparator.comparing(AvailableBoard::getBoardName))
                 .collect(Collectors.toList());
     }
 
-    private ReportSummary generateSummary(List<TaskEntity> completedTasks,
-            List<TaskCompletionEntity> completions,
-            List<TaskEntity> allTasks) {
-        int totalEvidences = completions.stream()
-                .mapToInt(c -> c.getImageUrls() != null ? c.getImageUrls().size() : 0)
-                .sum();
+    /**
+     * Conteos por tablero vía $group y tiempos de resolución en una sola pasada sobre
+     * las completaciones proyectadas, acumulando por usuario y por tablero.
+     */
+    private ReportSummary generateSummary(Criteria scope, LocalDateTime startDate, LocalDateTime endDate) {
+        Map<String, CompletionStats> statsByUser = new HashMap<>();
+        Map<String, CompletionStats> statsByBoard = new HashMap<>();
+
+        try (Stream<CompletionTime> completions = reportRepo.streamCompletionTimes(scope, startDate, endDate)) {
+            completions.forEach(completion -> {
+                statsByUser.computeIfAbsent(completion.userId(), key -> new CompletionStats())
+                        .addCompletion(completion.evidences(), completion.hours());
+                statsByBoard.computeIfAbsent(completion.boardId(), key -> new CompletionStats())
+                        .addCompletion(completion.evidences(), completion.hours());
+            });
+        }
+
+        List<BoardStatistics> boardStats = reportRepo.aggregateBoardStatistics(scope, startDate, endDate).stream()
+                .map(board -> applyCompletionTimes(board, statsByBoard.get(board.getBoardId())))
+                .sorted(Comparator.comparingDouble(BoardStatistics::getCompletionRate).reversed())
+                .collect(Collectors.toList());
+
+        ReportHydrationContext hydration = new ReportHydrationContext(boardRepo, userRepo)
+                .preload(new HashSet<>(), new HashSet<>(statsByUser.keySet()));
+
+        List<UserPerformance> userPerformance = toUserPerformance(statsByUser, hydration);
 
-        List<UserPerformance> userPerformance = calculateUserPerformance(completions, completedTasks);
-        List<BoardStatistics> boardStats = calculateBoardStatistics(allTasks, completedTasks);
+        int totalTasks = boardStats.stream().mapToInt(BoardStatistics::getTotalTasks).sum();
+        int completedTasks = boardStats.stream().mapToInt(BoardStatistics::getCompletedTasks).sum();
+        int totalEvidences = userPerformance.stream().mapToInt(UserPerformance::getEvidencesProvided).sum();
 
         return ReportSummary.builder()
-                .totalTasks(allTasks.size())
-                .completedTasks(completedTasks.size())
-                .pendingTasks(allTasks.size() - completedTasks.size())
+                .totalTasks(totalTasks)
+                .completedTasks(completedTasks)
+                .pendingTasks(Math.max(0, totalTasks - completedTasks))
                 .totalEvidences(totalEvidences)
                 .userPerformance(userPerformance)
                 .boardStatistics(boardStats)
                 .build();
     }
 
-    private List<UserPerformance> calculateUserPerformance(List<TaskCompletionEntity> completions,
-            List<TaskEntity> completedTasks) {
-        Map<String, List<TaskCompletionEntity>> completionsByUser = completions.stream()
-                .collect(Collectors.groupingBy(TaskCompletionEntity::getCompletedBy));
-
-        return completionsByUser.entrySet().stream()
+    /**
+     * Resumen a partir de report_rollups: se leen unos cientos de acumulados en vez
+     * del historial de tareas y completaciones. Los totales por tablero salen de un
+     * conteo agrupado sobre tasks. Cada tarea cerrada suma una sola completación al
+     * acumulado de su tablero actual, así que coincide con {@link #generateSummary};
+     * aun así, pendientes y tasa se acotan por si los acumulados quedaron desfasados.
+     */
+    private ReportSummary generateSummaryFromRollups(ReportScope scope, LocalDate fromDay, LocalDate toDay) {
+        List<ReportRollupEntity> rollups = rollupRepo.findBetween(fromDay, toDay, scope.boardId());
+        Map<String, Integer> totalsByBoard = reportRepo.countTasksByBoard(scope.criteria());
+
+        Map<String, CompletionStats> statsByUser = new HashMap<>();
+        Map<String, CompletionStats> statsByBoard = new HashMap<>();
+        for (ReportRollupEntity rollup : rollups) {
+            mergeRollup(statsByUser.computeIfAbsent(rollup.getUserId(), key -> new CompletionStats()), rollup);
+            mergeRollup(statsByBoard.computeIfAbsent(rollup.getBoardId(), key -> new CompletionStats()), rollup);
+        }
+
+        ReportHydrationContext hydration = new ReportHydrationContext(boardRepo, userRepo)
+                .preload(new HashSet<>(totalsByBoard.keySet()), new HashSet<>(statsByUser.keySet()));
+
+        List<BoardStatistics> boardStats = totalsByBoard.entrySet().stream()
                 .map(entry -> {
-                    String userId = entry.getKey();
-                    List<TaskCompletionEntity> userCompletions = entry.getValue();
-
-                    UserEntity user = userRepo.findById(userId).orElse(null);
-                    String userName = user != null ? user.getName() + " " + user.getLastname() : "Usuario desconocido";
-
-                    int evidences = userCompletions.stream()
-                            .mapToInt(c -> c.getImageUrls() != null ? c.getImageUrls().size() : 0)
-                            .sum();
-
-                    double avgTime = calculateAverageCompletionTimeForUser(userCompletions, completedTasks);
-
-                    return UserPerformance.builder()
-                            .userId(userId)
-                            .userName(userName)
-                            .tasksCompleted(userCompletions.size()) 
-                            .evidencesProvided(evidences)
-                            .averageCompletionTime(avgTime)
+                    CompletionStats stats = statsByBoard.get(entry.getKey());
+                    int total = entry.getValue();
+                    int completed = stats != null ? (int) stats.getCompletions() : 0;
+
+                    BoardStatistics board = BoardStatistics.builder()
+                            .boardId(entry.getKey())
+                            .boardName(hydration.boardName(entry.getKey()))
+                            .totalTasks(total)
+                            .completedTasks(completed)
+                            .completionRate(total == 0 ? 0 : Math.min(100, (double) completed / total * 100))
                             .build();
+                    return applyCompletionTimes(board, stats);
                 })
-                .sorted(Comparator.comparingInt(UserPerformance::getTasksCompleted).reversed())
+                .sorted(Comparator.comparingDouble(BoardStatistics::getCompletionRate).reversed())
                 .collect(Collectors.toList());
-    }
 
-    private double calculateAverageCompletionTimeForUser(List<TaskCompletionEntity> userCompletions,
-            List<TaskEntity> tasks) {
-        Map<String, TaskEntity> taskMap = tasks.stream()
-                .collect(Collectors.toMap(TaskEntity::getId, t -> t));
+        List<UserPerformance> userPerformance = toUserPerformance(statsByUser, hydration);
 
-        List<Long> durations = userCompletions.stream()
-                .filter(c -> taskMap.containsKey(c.getTaskId()))
-                .map(c -> {
-                    TaskEntity task = taskMap.get(c.getTaskId());
-                    return Duration.between(task.getCreatedAt(), c.getCompletedAt()).toHours();
-                })
-                .collect(Collectors.toList());
+        int totalTasks = totalsByBoard.values().stream().mapToInt(Integer::intValue).sum();
+        int completedTasks = userPerformance.stream().mapToInt(UserPerformance::getTasksCompleted).sum();
+        int totalEvidences = userPerformance.stream().mapToInt(UserPerformance::getEvidencesProvided).sum();
 
-        return durations.isEmpty() ? 0
-                : durations.stream()
-                        .mapToLong(Long::longValue)
-                        .average()
-                        .orElse(0);
+        return ReportSummary.builder()
+                .totalTasks(totalTasks)
+                .completedTasks(completedTasks)
+                .pendingTasks(Math.max(0, totalTasks - completedTasks))
+                .totalEvidences(totalEvidences)
+                .userPerformance(userPerformance)
+                .boardStatistics(boardStats)
+                .build();
     }
 
-    private double calculateAverageCompletionTime(List<TaskCompletionEntity> completions,
-            List<TaskEntity> tasks) {
-        Map<String, TaskEntity> taskMap = tasks.stream()
-                .collect(Collectors.toMap(TaskEntity::getId, t -> t));
-
-        List<Long> durations = completions.stream()
-                .filter(c -> taskMap.containsKey(c.getTaskId()))
-                .map(c -> {
-                    TaskEntity task = taskMap.get(c.getTaskId());
-                    return Duration.between(task.getCreatedAt(), c.getCompletedAt()).toHours();
-                })
-                .collect(Collectors.toList());
-
-        return durations.isEmpty() ? 0
-                : durations.stream()
-                        .mapToLong(Long::longValue)
-                        .average()
-                        .orElse(0);
+    private void mergeRollup(CompletionStats stats, ReportRollupEntity rollup) {
+        stats.merge(rollup.getCompletedCount(), rollup.getEvidenceCount(), rollup.getCompletionHours(),
+                rollup.getMinHours(), rollup.getMaxHours(), rollup.getHoursHistogram());
     }
 
-    private List<BoardStatistics> calculateBoardStatistics(List<TaskEntity> allTasks,
-            List<TaskEntity> completedTasks) {
-        Map<String, List<TaskEntity>> tasksByBoard = allTasks.stream()
-                .collect(Collectors.groupingBy(TaskEntity::getBoardId));
-
-        Set<String> completedTaskIds = completedTasks.stream()
-                .map(TaskEntity::getId)
-                .collect(Collectors.toSet());
+    private BoardStatistics applyCompletionTimes(BoardStatistics board, CompletionStats stats) {
+        if (stats != null) {
+            board.setAverageCompletionTime(stats.average());
+            board.setMedianCompletionTime(stats.median());
+            board.setP90CompletionTime(stats.p90());
+        }
+        return board;
+    }
 
-        return tasksByBoard.entrySet().stream()
+    private List<UserPerformance> toUserPerformance(Map<String, CompletionStats> statsByUser,
+            ReportHydrationContext hydration) {
+        return statsByUser.entrySet().stream()
                 .map(entry -> {
-                    String boardId = entry.getKey();
-                    List<TaskEntity> boardTasks = entry.getValue();
-
-                    BoardEntity board = boardRepo.findById(boardId).orElse(null);
-                    String boardName = board != null ? board.getTitle() : "Tablero desconocido";
-
-                    long completed = boardTasks.stream()
-                            .filter(task -> completedTaskIds.contains(task.getId()))
-                            .count();
+                    CompletionStats stats = entry.getValue();
 
-                    double completionRate = boardTasks.isEmpty() ? 0 : (double) completed / boardTasks.size() * 100;
-
-                    return BoardStatistics.builder()
-                            .boardId(boardId)
-                            .boardName(boardName)
-                            .totalTasks(boardTasks.size())
-                            .completedTasks((int) completed)
-                            .completionRate(completionRate)
+                    return UserPerformance.builder()
+                            .userId(entry.getKey())
+                            .userName(hydration.userName(entry.getKey(), "Usuario desconocido"))
+                            .tasksCompleted((int) stats.getCompletions())
+                            .evidencesProvided((int) stats.getEvidences())
+                            .averageCompletionTime(stats.average())
+                            .medianCompletionTime(stats.median())
+                            .p90CompletionTime(stats.p90())
                             .build();
                 })
-                .sorted(Comparator.comparingDouble(BoardStatistics::getCompletionRate).reversed())
+                .sorted(Comparator.comparingInt(UserPerformance::getTasksCompleted).reversed())
                 .collect(Collectors.toList());
     }
 
@@ -325,50 +391,17 @@ public class ReportService {
         Map<String, TaskCompletionEntity> completionMap = completions.stream()
                 .collect(Collectors.toMap(TaskCompletionEntity::getTaskId, c -> c, (c1, c2) -> c1));
 
-        return tasks.stream()
-                .map(task -> {
-                    TaskCompletionEntity completion = completionMap.get(task.getId());
-
-                    BoardEntity board = boardRepo.findById(task.getBoardId()).orElse(null);
-                    String boardName = board != null ? board.getTitle() : "Tablero desconocido";
-
-                    List<String> assignedUserNames = new ArrayList<>();
-                    if (task.getAssignedTo() != null) {
-                        assignedUserNames = task.getAssignedTo().stream()
-                                .map(userId -> {
-                                    UserEntity user = userRepo.findById(userId).orElse(null);
-                                    return user != null ? user.getName() + " " + user.getLastname() : userId;
-                                })
-                                .collect(Collectors.toList());
-                    }
-
-                    String completedByName = "";
-                    String completedById = null;
-                    if (completion != null) {
-                        completedById = completion.getCompletedBy(); 
-                        UserEntity user = userRepo.findById(completion.getCompletedBy()).orElse(null);
-                        completedByName = user != null ? user.getName() + " " + user.getLastname()
-                                : "Usuario desconocido";
-                    }
-
-                    return ReportTaskDetail.builder()
-                            .taskId(task.getId())
-                            .taskTitle(task.getTitle())
-                            .boardName(boardName)
-                            .priority(task.getPriority())
-                            .status(task.getStatus() != null ? task.getStatus()
-                                    : (completion != null ? "CERRADO" : "ABIERTO"))
-                            .createdAt(task.getCreatedAt())
-                            .completedAt(completion != null ? completion.getCompletedAt() : null)
-                            .completedBy(completedById) 
-                            .completedByName(completedByName) 
-                            .completionDescription(completion != null ? completion.getDescription() : null)
-                            .completionNotes(completion != null ? completion.getNotes() : null)
-                            .evidenceUrls(completion != null ? completion.getImageUrls() : new ArrayList<>())
-                            .assignedUsers(assignedUserNames) 
-                            .build();
-                })
+        ReportHydrationContext hydration = new ReportHydrationContext(boardRepo, userRepo)
+                .preload(tasks, completions);
+
+        List<ReportTaskDetail> details = tasks.stream()
+                .map(task -> hydration.toTaskDetail(task, completionMap.get(task.getId())))
                 .sorted(Comparator.comparing(ReportTaskDetail::getCreatedAt).reversed())
                 .collect(Collectors.toList());
+
+        logger.debug("📊 Detalle de {} tareas hidratado con {} consultas", details.size(),
+                hydration.getQueryCount());
+
+        return details;
     }
-}
\ No newline at end of file
+}
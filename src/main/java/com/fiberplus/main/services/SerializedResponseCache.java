@@ -0,0 +1,148 @@
+package com.fiberplus.main.services;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Respuestas de lectura frecuente ya serializadas a JSON, y comprimidas con gzip
+ * cuando vale la pena, guardadas fuera del heap y escritas tal cual en la respuesta.
+ *
+ * Cada recurso guarda una sola entrada etiquetada con la versión de sus datos (el
+ * ETag de {@link ConditionalRequestService}); si la versión pedida no coincide se
+ * vuelve a serializar, así que la invalidación es exacta sin escuchar eventos.
+ */
+@Service
+public class SerializedResponseCache {
+    private static final Logger logger = LoggerFactory.getLogger(SerializedResponseCache.class);
+
+    private static final int GZIP_MIN_BYTES = 1024;
+
+    private final long maxEntryBytes;
+    private final ObjectMapper objectMapper;
+    private final SingleFlightService singleFlight;
+    private final Map<String, SerializedBody> entries = new ConcurrentHashMap<>();
+
+    public SerializedResponseCache(@Value("${responses.byte-cache.max-entry-bytes:33554432}") long maxEntryBytes,
+            ObjectMapper objectMapper, SingleFlightService singleFlight) {
+        this.maxEntryBytes = maxEntryBytes;
+        this.objectMapper = objectMapper;
+        this.singleFlight = singleFlight;
+    }
+
+    /**
+     * Cuerpo serializado de {@code resource} en la versión dada. La versión debe leerse
+     * antes de cargar los datos: si cambia durante la carga, la entrada queda con la
+     * versión anterior y la siguiente petición la reemplaza. Las peticiones que no
+     * encuentran la versión a la vez comparten una sola serialización.
+     */
+    public SerializedBody getOrSerialize(String resource, String version, Supplier<?> loader) {
+        SerializedBody cached = entries.get(resource);
+        if (cached != null && cached.version.equals(version)) {
+            return cached;
+        }
+        return singleFlight.execute(resource, version, () -> serialize(resource, version, loader));
+    }
+
+    private SerializedBody serialize(String resource, String version, Supplier<?> loader) {
+        byte[] json;
+        try {
+            json = objectMapper.writeValueAsBytes(loader.get());
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        SerializedBody body = new SerializedBody(version, toDirect(json),
+                json.length >= GZIP_MIN_BYTES ? toDirect(gzip(json)) : null);
+
+        if (json.length <= maxEntryBytes) {
+            entries.put(resource, body);
+            logger.debug("📦 Respuesta {} serializada en versión {} ({} bytes, gzip {})",
+                    resource, version, json.length, body.gzip != null ? body.gzip.capacity() : "-");
+        } else {
+            entries.remove(resource);
+        }
+        return body;
+    }
+
+    /**
+     * Accept-Encoding con gzip y sin {@code q=0}.
+     */
+    public static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String candidate : acceptEncoding.split(",")) {
+            String[] parts = candidate.trim().split(";");
+            if (parts[0].trim().equalsIgnoreCase("gzip")) {
+                return parts.length == 1 || !parts[1].trim().matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+
+    private static ByteBuffer toDirect(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length);
+        buffer.put(bytes).flip();
+        return buffer.asReadOnlyBuffer();
+    }
+
+    private static byte[] gzip(byte[] bytes) {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(bytes.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return compressed.toByteArray();
+    }
+
+    /**
+     * Bytes inmutables de una versión; cada escritura usa su propia vista del buffer,
+     * así varias peticiones pueden escribir la misma entrada a la vez.
+     */
+    public static final class SerializedBody {
+        private final String version;
+        private final ByteBuffer json;
+        private final ByteBuffer gzip;
+
+        private SerializedBody(String version, ByteBuffer json, ByteBuffer gzip) {
+            this.version = version;
+            this.json = json;
+            this.gzip = gzip;
+        }
+
+        public boolean hasGzip() {
+            return gzip != null;
+        }
+
+        public int length(boolean gzipped) {
+            return (gzipped ? gzip : json).capacity();
+        }
+
+        public void writeTo(OutputStream out, boolean gzipped) throws IOException {
+            ByteBuffer view = (gzipped ? gzip : json).duplicate();
+            WritableByteChannel channel = Channels.newChannel(out);
+            while (view.hasRemaining()) {
+                channel.write(view);
+            }
+            out.flush();
+        }
+    }
+}
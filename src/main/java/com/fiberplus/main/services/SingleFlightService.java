@@ -0,0 +1,90 @@
+package com.fiberplus.main.services;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import com.fiberplus.main.dtos.SingleFlightStats;
+
+/**
+ * Agrupa lecturas costosas idénticas que llegan a la vez: la primera petición hace el
+ * cálculo y las que llegan mientras tanto esperan y reciben el mismo resultado (o la
+ * misma excepción). Al terminar, la siguiente petición vuelve a calcular.
+ *
+ * La clave debe incluir todo lo que cambia el resultado: parámetros normalizados,
+ * lo que el usuario puede ver y la versión de los datos, para que una petición
+ * posterior a una escritura no reciba un cálculo que empezó antes.
+ */
+@Service
+public class SingleFlightService {
+    private static final Logger logger = LoggerFactory.getLogger(SingleFlightService.class);
+
+    private final Map<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final Map<String, Counters> counters = new ConcurrentHashMap<>();
+
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String endpoint, String key, Supplier<T> loader) {
+        String flightKey = endpoint + "|" + key;
+        Counters endpointCounters = counters.computeIfAbsent(endpoint, ignored -> new Counters());
+
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(flightKey, flight);
+        if (existing != null) {
+            endpointCounters.coalesced.incrementAndGet();
+            logger.debug("🔗 Petición agrupada con una en curso: {}", flightKey);
+            return (T) await(existing);
+        }
+
+        endpointCounters.executions.incrementAndGet();
+        try {
+            T result = loader.get();
+            flight.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(flightKey, flight);
+        }
+    }
+
+    public List<SingleFlightStats> getStats() {
+        return counters.entrySet().stream()
+                .<SingleFlightStats>map(entry -> SingleFlightStats.builder()
+                        .endpoint(entry.getKey())
+                        .executions(entry.getValue().executions.get())
+                        .coalesced(entry.getValue().coalesced.get())
+                        .inFlight((int) inFlight.keySet().stream()
+                                .filter(key -> key.startsWith(entry.getKey() + "|"))
+                                .count())
+                        .build())
+                .toList();
+    }
+
+    private Object await(CompletableFuture<Object> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static class Counters {
+        private final AtomicLong executions = new AtomicLong();
+        private final AtomicLong coalesced = new AtomicLong();
+    }
+}
@@ -1,12 +1,15 @@
 package com.fiberplus.main.services;
 
 import java.time.LocalDateTime;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 
@@ -15,6 +18,7 @@ import com.fiberplus.main.dtos.TaskCompletionDto;
 import com.fiberplus.main.entities.TaskCompletionEntity;
 import com.fiberplus.main.entities.TaskEntity;
 import com.fiberplus.main.entities.UserEntity;
+import com.fiberplus.main.events.TaskChangedEvent;
 import com.fiberplus.main.exception.ResourceNotFoundException;
 import com.fiberplus.main.repositories.ITaskCompletionRepository;
 import com.fiberplus.main.repositories.ITaskRepository;
@@ -27,12 +31,19 @@ public class TaskCompletionService {
     private final ITaskCompletionRepository completionRepo;
     private final ITaskRepository taskRepo;
     private final IUserRepository userRepo;
+    private final ReportRollupService rollupService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ChangeSequenceService changeSequence;
 
     public TaskCompletionService(ITaskCompletionRepository completionRepo, ITaskRepository taskRepo,
-            IUserRepository userRepo) {
+            IUserRepository userRepo, ReportRollupService rollupService,
+            ApplicationEventPublisher eventPublisher, ChangeSequenceService changeSequence) {
         this.completionRepo = completionRepo;
         this.taskRepo = taskRepo;
         this.userRepo = userRepo;
+        this.rollupService = rollupService;
+        this.eventPublisher = eventPublisher;
+        this.changeSequence = changeSequence;
     }
 
     public TaskCompletionDto createCompletion(TaskCompletionCreateDto dto) {
@@ -58,9 +69,30 @@ public class TaskCompletionService {
 
         completion = completionRepo.save(completion);
 
+        // Una tarea ya cerrada conserva su fecha de cierre y cuenta una sola vez en los
+        // reportes; la nueva completación solo agrega evidencias al historial
+        boolean firstClose = !"CERRADO".equals(task.getStatus()) || task.getClosedAt() == null;
         task.setStatus("CERRADO");
-        task.setClosedAt(now);
-        taskRepo.save(task);
+        if (firstClose) {
+            task.setClosedAt(now);
+        }
+        changeSequence.record(seq -> {
+            task.setChangeSeq(seq);
+            return taskRepo.save(task);
+        });
+
+        if (firstClose) {
+            try {
+                rollupService.recordCompletion(task, completion);
+            } catch (Exception e) {
+                logger.error("Error actualizando acumulado diario para tarea {}: {}", task.getId(), e.getMessage());
+            }
+        }
+
+        Set<String> assignedUsers = new HashSet<>(task.getAssignedTo() != null ? task.getAssignedTo() : List.of());
+        Set<String> boards = task.getBoardId() != null ? Set.of(task.getBoardId()) : Set.of();
+        eventPublisher.publishEvent(new TaskChangedEvent(task.getId(), TaskChangedEvent.Type.COMPLETED,
+                boards, assignedUsers));
 
         logger.info("✅ Completación de tarea creada: {} para tarea {}",
                 completion.getId(), dto.getTaskId());
@@ -0,0 +1,656 @@
+package com.fiberplus.main.services;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fiberplus.main.common.CsvReader;
+import com.fiberplus.main.common.RankKeys;
+import com.fiberplus.main.dtos.TaskImportErrorDto;
+import com.fiberplus.main.dtos.TaskImportJobDto;
+import com.fiberplus.main.entities.NotificationEntity;
+import com.fiberplus.main.entities.TaskEntity;
+import com.fiberplus.main.entities.UserEntity;
+import com.fiberplus.main.enums.ImportJobStatus;
+import com.fiberplus.main.enums.NotificationType;
+import com.fiberplus.main.events.TaskChangedEvent;
+import com.fiberplus.main.exception.ConflictException;
+import com.fiberplus.main.exception.GenericException;
+import com.fiberplus.main.exception.ResourceNotFoundException;
+import com.fiberplus.main.repositories.ITaskRepository;
+import com.fiberplus.main.repositories.IUserRepository;
+import com.fiberplus.main.repositories.TaskQueryRepository;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Importación masiva de tareas desde CSV o NDJSON en segundo plano. El cuerpo se
+ * copia a un archivo temporal y un pool propio lo lee fila a fila: tableros y usuarios
+ * se validan contra ids ya cargados en memoria y las tareas válidas se insertan con
+ * insertMany en lotes de {@code tasks.import.batch-size}. Al terminar, cada asignado
+ * recibe una sola notificación con el resumen de sus tareas, sin correos.
+ */
+@Service
+public class TaskImportService {
+    private static final Logger logger = LoggerFactory.getLogger(TaskImportService.class);
+    private static final int MAX_REPORTED_ERRORS = 100;
+    private static final int DIGEST_TITLES = 3;
+
+    public enum Format { CSV, NDJSON }
+
+    private final ITaskRepository taskRepo;
+    private final TaskQueryRepository taskQueries;
+    private final IUserRepository userRepo;
+    private final ActiveBoardRegistry activeBoards;
+    private final RankRebalanceService rankRebalance;
+    private final ChangeSequenceService changeSequence;
+    private final NotificationService notificationService;
+    private final BoardWebSocketService boardWebSocket;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+    private final int batchSize;
+    private final long maxBytes;
+    private final long retentionMinutes;
+    private final ThreadPoolExecutor executor;
+
+    private final Map<String, ImportJob> jobs = new ConcurrentHashMap<>();
+
+    public TaskImportService(ITaskRepository taskRepo, TaskQueryRepository taskQueries, IUserRepository userRepo,
+            ActiveBoardRegistry activeBoards, RankRebalanceService rankRebalance,
+            ChangeSequenceService changeSequence, NotificationService notificationService,
+            BoardWebSocketService boardWebSocket, ApplicationEventPublisher eventPublisher,
+            ObjectMapper objectMapper,
+            @Value("${tasks.import.batch-size:500}") int batchSize,
+            @Value("${tasks.import.max-bytes:52428800}") long maxBytes,
+            @Value("${tasks.import.pool-size:1}") int poolSize,
+            @Value("${tasks.import.queue-capacity:4}") int queueCapacity,
+            @Value("${tasks.import.retention-minutes:60}") long retentionMinutes) {
+        this.taskRepo = taskRepo;
+        this.taskQueries = taskQueries;
+        this.userRepo = userRepo;
+        this.activeBoards = activeBoards;
+        this.rankRebalance = rankRebalance;
+        this.changeSequence = changeSequence;
+        this.notificationService = notificationService;
+        this.boardWebSocket = boardWebSocket;
+        this.eventPublisher = eventPublisher;
+        this.objectMapper = objectMapper;
+        this.batchSize = batchSize;
+        this.maxBytes = maxBytes;
+        this.retentionMinutes = retentionMinutes;
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "task-import-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    /**
+     * Copia el cuerpo a disco y encola la importación. Se lee en la petición porque
+     * el stream se cierra al responder.
+     */
+    public TaskImportJobDto submit(Format format, InputStream body) {
+        Path file = spool(body, format);
+        ImportJob job = new ImportJob(UUID.randomUUID().toString(), format, getCurrentUserId(), file);
+
+        try {
+            jobs.put(job.id, job);
+            executor.execute(() -> run(job));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.id);
+            deleteQuietly(file);
+            throw new GenericException("Hay demasiadas importaciones en proceso, intente nuevamente más tarde");
+        }
+
+        logger.info("📥 Importación {} encolada: {} de {} bytes", job.id, format, job.bytes);
+        return toDto(job);
+    }
+
+    public TaskImportJobDto getJob(String jobId) {
+        return toDto(findJob(jobId));
+    }
+
+    /**
+     * Detiene la importación antes del siguiente lote; los lotes ya insertados se conservan.
+     */
+    public TaskImportJobDto cancel(String jobId) {
+        ImportJob job = findJob(jobId);
+        if (!job.cancel()) {
+            throw new ConflictException("La importación ya finalizó con estado " + job.status);
+        }
+        logger.info("🛑 Importación cancelada: {} ({} tareas ya insertadas)", jobId, job.importedTasks.get());
+
+        return toDto(job);
+    }
+
+    /**
+     * Descarta las importaciones terminadas cuya retención ya venció.
+     */
+    @Scheduled(fixedDelay = 60_000)
+    public void purgeExpiredJobs() {
+        LocalDateTime limit = LocalDateTime.now().minusMinutes(retentionMinutes);
+        jobs.values().removeIf(job -> job.finishedAt != null && job.finishedAt.isBefore(limit));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private Path spool(InputStream body, Format format) {
+        Path file = null;
+        try {
+            file = Files.createTempFile("task-import-", "." + format.name().toLowerCase());
+            try (OutputStream out = Files.newOutputStream(file)) {
+                byte[] buffer = new byte[8192];
+                long total = 0;
+                int read;
+                while ((read = body.read(buffer)) != -1) {
+                    total += read;
+                    if (total > maxBytes) {
+                        throw new GenericException("El archivo supera el máximo de " + maxBytes + " bytes");
+                    }
+                    out.write(buffer, 0, read);
+                }
+            }
+            return file;
+        } catch (IOException e) {
+            deleteQuietly(file);
+            throw new GenericException("No se pudo leer el archivo a importar: " + e.getMessage());
+        } catch (RuntimeException e) {
+            deleteQuietly(file);
+            throw e;
+        }
+    }
+
+    private void run(ImportJob job) {
+        if (!job.start()) {
+            deleteQuietly(job.file);
+            return;
+        }
+        try (BufferedReader reader = Files.newBufferedReader(job.file, StandardCharsets.UTF_8)) {
+            Set<String> userIds = userRepo.findAllIds().stream()
+                    .map(UserEntity::getId)
+                    .collect(Collectors.toSet());
+            RowReader rows = job.format == Format.CSV ? csvRows(reader) : ndjsonRows(reader);
+            List<TaskEntity> batch = new ArrayList<>(batchSize);
+
+            ParsedRow row;
+            while ((row = rows.next()) != null && job.status == ImportJobStatus.RUNNING) {
+                job.processedRows.incrementAndGet();
+                TaskEntity task = row.error() == null ? toEntity(job, row, userIds) : null;
+                if (row.error() != null) {
+                    job.reject(row.line(), row.error());
+                }
+                if (task != null) {
+                    batch.add(task);
+                }
+                if (batch.size() == batchSize) {
+                    insertBatch(job, batch);
+                    batch.clear();
+                }
+            }
+            if (job.status != ImportJobStatus.RUNNING) {
+                return;
+            }
+            insertBatch(job, batch);
+
+            job.complete();
+            logger.info("✅ Importación {} completada: {} tareas, {} filas rechazadas", job.id,
+                    job.importedTasks.get(), job.rejectedRows.get());
+        } catch (Exception e) {
+            job.fail(e.getMessage());
+            logger.error("❌ Error en importación {}: {}", job.id, e.getMessage());
+        } finally {
+            announceImported(job);
+            deleteQuietly(job.file);
+        }
+    }
+
+    /**
+     * Avisos de los lotes ya insertados, también si la importación se canceló o falló
+     * a mitad: esas tareas quedan guardadas aunque el trabajo no termine.
+     */
+    private void announceImported(ImportJob job) {
+        try {
+            sendDigests(job);
+            job.boardCounts.forEach(boardWebSocket::notifyTasksImported);
+        } catch (Exception e) {
+            logger.error("❌ Error notificando la importación {}: {}", job.id, e.getMessage());
+        }
+    }
+
+    /**
+     * CSV con encabezado; las columnas title y boardId son obligatorias y assignedTo
+     * separa los ids con {@code |}, igual que la exportación.
+     */
+    private RowReader csvRows(BufferedReader reader) throws IOException {
+        CsvReader csv = new CsvReader(reader);
+        List<String> header = csv.next();
+        if (header == null) {
+            throw new GenericException("El archivo está vacío");
+        }
+
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            columns.put(header.get(i).replace("\uFEFF", "").trim().toLowerCase(), i);
+        }
+        for (String required : List.of("title", "boardid")) {
+            if (!columns.containsKey(required)) {
+                throw new GenericException("Falta la columna " + required + " en el encabezado");
+            }
+        }
+
+        return () -> {
+            List<String> fields;
+            try {
+                fields = csv.next();
+            } catch (IllegalArgumentException e) {
+                return new ParsedRow(csv.lineNumber(), null, e.getMessage());
+            }
+            if (fields == null) {
+                return null;
+            }
+
+            try {
+                String assignedTo = column(fields, columns, "assignedto");
+                ImportRow row = new ImportRow(
+                        column(fields, columns, "title"),
+                        column(fields, columns, "description"),
+                        column(fields, columns, "priority"),
+                        column(fields, columns, "boardid"),
+                        assignedTo != null ? Arrays.stream(assignedTo.split("\\|"))
+                                .map(String::trim)
+                                .filter(userId -> !userId.isEmpty())
+                                .toList() : null,
+                        parseDate(column(fields, columns, "duedate")),
+                        column(fields, columns, "latitude"),
+                        column(fields, columns, "longitude"));
+                return new ParsedRow(csv.lineNumber(), row, null);
+            } catch (DateTimeParseException e) {
+                return new ParsedRow(csv.lineNumber(), null, "Fecha de vencimiento inválida: " + e.getParsedString());
+            }
+        };
+    }
+
+    private RowReader ndjsonRows(BufferedReader reader) {
+        int[] line = { 0 };
+        return () -> {
+            String text;
+            do {
+                text = reader.readLine();
+                line[0]++;
+            } while (text != null && text.isBlank());
+            if (text == null) {
+                return null;
+            }
+
+            try {
+                JsonNode node = objectMapper.readTree(text);
+                if (node == null || !node.isObject()) {
+                    return new ParsedRow(line[0], null, "Cada línea debe ser un objeto JSON");
+                }
+                JsonNode assignedTo = node.get("assignedTo");
+                if (assignedTo != null && !assignedTo.isNull() && !assignedTo.isArray()) {
+                    return new ParsedRow(line[0], null, "assignedTo debe ser una lista de ids");
+                }
+
+                ImportRow row = new ImportRow(
+                        field(node, "title"),
+                        field(node, "description"),
+                        field(node, "priority"),
+                        field(node, "boardId"),
+                        assignedTo != null && assignedTo.isArray()
+                                ? StreamSupport.stream(assignedTo.spliterator(), false)
+                                        .map(JsonNode::asText)
+                                        .map(String::trim)
+                                        .filter(userId -> !userId.isEmpty())
+                                        .toList()
+                                : null,
+                        parseDate(field(node, "dueDate")),
+                        field(node, "latitude"),
+                        field(node, "longitude"));
+                return new ParsedRow(line[0], row, null);
+            } catch (JsonProcessingException e) {
+                return new ParsedRow(line[0], null, "JSON inválido: " + e.getOriginalMessage());
+            } catch (DateTimeParseException e) {
+                return new ParsedRow(line[0], null, "Fecha de vencimiento inválida: " + e.getParsedString());
+            }
+        };
+    }
+
+    /**
+     * Valor de texto de un campo NDJSON, null si falta, es null o está vacío, igual que
+     * una columna vacía del CSV.
+     */
+    private String field(JsonNode node, String name) {
+        JsonNode value = node.get(name);
+        if (value == null || value.isNull()) {
+            return null;
+        }
+        String text = value.asText().trim();
+        return text.isEmpty() ? null : text;
+    }
+
+    private TaskEntity toEntity(ImportJob job, ParsedRow parsed, Set<String> userIds) {
+        ImportRow row = parsed.row();
+        if (row.title() == null || row.title().isBlank()) {
+            job.reject(parsed.line(), "El título de la tarea no puede estar vacío.");
+            return null;
+        }
+        if (row.boardId() == null || !activeBoards.isActive(row.boardId())) {
+            job.reject(parsed.line(), "No se encontró el tablero con id " + row.boardId());
+            return null;
+        }
+
+        List<String> assignedTo = row.assignedTo() != null ? row.assignedTo().stream().distinct().toList() : List.of();
+        for (String userId : assignedTo) {
+            if (!userIds.contains(userId)) {
+                job.reject(parsed.line(), "No se encontró el usuario con id " + userId);
+                return null;
+            }
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        return TaskEntity.builder()
+                .id(UUID.randomUUID().toString())
+                .title(row.title())
+                .description(row.description())
+                .priority(row.priority())
+                .boardId(row.boardId())
+                .assignedTo(new ArrayList<>(assignedTo))
+                .dueDate(row.dueDate())
+                .latitude(row.latitude())
+                .longitude(row.longitude())
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+    }
+
+    /**
+     * Un insertMany por lote. Las tareas quedan al final de su tablero en el orden del
+     * archivo, con claves de rank de un mismo prefijo para que no crezcan fila a fila.
+     */
+    private void insertBatch(ImportJob job, List<TaskEntity> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        Map<String, List<TaskEntity>> byBoard = batch.stream()
+                .collect(Collectors.groupingBy(TaskEntity::getBoardId, LinkedHashMap::new, Collectors.toList()));
+        byBoard.forEach((boardId, tasks) -> {
+            List<String> ranks = RankKeys.afterAll(taskQueries.findLastRank(boardId), tasks.size());
+            for (int i = 0; i < tasks.size(); i++) {
+                tasks.get(i).setRank(ranks.get(i));
+            }
+            rankRebalance.checkLength(boardId, ranks.get(ranks.size() - 1));
+        });
+
+        changeSequence.recordBatch(batch.size(), first -> {
+            for (int i = 0; i < batch.size(); i++) {
+                batch.get(i).setChangeSeq(first + i);
+            }
+            return taskRepo.insert(batch);
+        });
+
+        Set<String> users = new HashSet<>();
+        for (TaskEntity task : batch) {
+            for (String userId : task.getAssignedTo()) {
+                users.add(userId);
+                job.digests.computeIfAbsent(userId, key -> new Digest()).add(task);
+            }
+        }
+        byBoard.forEach((boardId, tasks) -> job.boardCounts.merge(boardId, tasks.size(), Integer::sum));
+        job.importedTasks.addAndGet(batch.size());
+
+        eventPublisher.publishEvent(new TaskChangedEvent(null, TaskChangedEvent.Type.CREATED,
+                new HashSet<>(byBoard.keySet()), users));
+        logger.debug("📦 Importación {}: lote de {} tareas insertado", job.id, batch.size());
+    }
+
+    /**
+     * Una notificación por asignado con el total de tareas recibidas y algunos títulos.
+     */
+    private void sendDigests(ImportJob job) {
+        List<NotificationEntity> notifications = new ArrayList<>();
+        job.digests.forEach((userId, digest) -> {
+            boolean single = digest.count == 1;
+            String titles = String.join(", ", digest.titles) + (digest.count > DIGEST_TITLES ? "…" : "");
+
+            notifications.add(NotificationEntity.builder()
+                    .userId(userId)
+                    .title(single ? "Nueva tarea asignada" : "Nuevas tareas asignadas")
+                    .message(single
+                            ? "Se te ha asignado la tarea: " + digest.firstTitle
+                            : "Se te asignaron " + digest.count + " tareas importadas: " + titles)
+                    .taskId(single ? digest.firstTaskId : null)
+                    .taskTitle(single ? digest.firstTitle : null)
+                    .type(NotificationType.TASK_ASSIGNED)
+                    .actionBy(job.requestedBy)
+                    .build());
+        });
+
+        try {
+            notificationService.createAndSendNotifications(notifications);
+        } catch (Exception e) {
+            logger.error("Error enviando notificaciones de la importación {}: {}", job.id, e.getMessage());
+        }
+    }
+
+    private String column(List<String> fields, Map<String, Integer> columns, String name) {
+        Integer index = columns.get(name);
+        if (index == null || index >= fields.size()) {
+            return null;
+        }
+        String value = fields.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    /**
+     * Fecha ISO con hora, o solo la fecha para el inicio del día; la misma regla para
+     * CSV y NDJSON.
+     */
+    private LocalDateTime parseDate(String value) {
+        if (value == null) {
+            return null;
+        }
+        return value.length() == 10 ? LocalDate.parse(value).atStartOfDay() : LocalDateTime.parse(value);
+    }
+
+    private void deleteQuietly(Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            logger.warn("⚠️ No se pudo borrar el archivo temporal {}: {}", file, e.getMessage());
+        }
+    }
+
+    private String getCurrentUserId() {
+        try {
+            Object principal = SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+            if (principal instanceof UserEntity) {
+                return ((UserEntity) principal).getId();
+            }
+            return "system";
+        } catch (Exception e) {
+            return "system";
+        }
+    }
+
+    private ImportJob findJob(String jobId) {
+        ImportJob job = jobs.get(jobId);
+        if (job == null) {
+            throw new ResourceNotFoundException("No se encontró la importación con id ", "id", jobId);
+        }
+        return job;
+    }
+
+    private TaskImportJobDto toDto(ImportJob job) {
+        synchronized (job.errors) {
+            return TaskImportJobDto.builder()
+                    .jobId(job.id)
+                    .status(job.status)
+                    .format(job.format.name())
+                    .processedRows(job.processedRows.get())
+                    .importedTasks(job.importedTasks.get())
+                    .rejectedRows(job.rejectedRows.get())
+                    .errors(List.copyOf(job.errors))
+                    .createdAt(job.createdAt)
+                    .startedAt(job.startedAt)
+                    .finishedAt(job.finishedAt)
+                    .error(job.error)
+                    .build();
+        }
+    }
+
+    record ImportRow(String title, String description, String priority, String boardId,
+            List<String> assignedTo, LocalDateTime dueDate, String latitude, String longitude) {
+    }
+
+    /**
+     * Fila leída del archivo: {@code row} si se pudo interpretar, si no {@code error}.
+     */
+    private record ParsedRow(int line, ImportRow row, String error) {
+    }
+
+    @FunctionalInterface
+    private interface RowReader {
+        ParsedRow next() throws IOException;
+    }
+
+    private static class Digest {
+        private int count;
+        private String firstTaskId;
+        private String firstTitle;
+        private final List<String> titles = new ArrayList<>(DIGEST_TITLES);
+
+        void add(TaskEntity task) {
+            if (count == 0) {
+                firstTaskId = task.getId();
+                firstTitle = task.getTitle();
+            }
+            if (titles.size() < DIGEST_TITLES) {
+                titles.add(task.getTitle());
+            }
+            count++;
+        }
+    }
+
+    private static class ImportJob {
+        private final String id;
+        private final Format format;
+        private final String requestedBy;
+        private final Path file;
+        private final long bytes;
+        private final LocalDateTime createdAt = LocalDateTime.now();
+
+        private final AtomicLong processedRows = new AtomicLong();
+        private final AtomicLong importedTasks = new AtomicLong();
+        private final AtomicLong rejectedRows = new AtomicLong();
+        private final List<TaskImportErrorDto> errors = new ArrayList<>();
+        private final Map<String, Digest> digests = new HashMap<>();
+        private final Map<String, Integer> boardCounts = new LinkedHashMap<>();
+
+        private volatile ImportJobStatus status = ImportJobStatus.PENDING;
+        private volatile LocalDateTime startedAt;
+        private volatile LocalDateTime finishedAt;
+        private volatile String error;
+
+        ImportJob(String id, Format format, String requestedBy, Path file) {
+            this.id = id;
+            this.format = format;
+            this.requestedBy = requestedBy;
+            this.file = file;
+            this.bytes = file.toFile().length();
+        }
+
+        void reject(int line, String message) {
+            rejectedRows.incrementAndGet();
+            synchronized (errors) {
+                if (errors.size() < MAX_REPORTED_ERRORS) {
+                    errors.add(TaskImportErrorDto.builder().line(line).message(message).build());
+                }
+            }
+        }
+
+        synchronized boolean start() {
+            if (status != ImportJobStatus.PENDING) {
+                return false;
+            }
+            status = ImportJobStatus.RUNNING;
+            startedAt = LocalDateTime.now();
+            return true;
+        }
+
+        synchronized void complete() {
+            if (status == ImportJobStatus.RUNNING) {
+                status = ImportJobStatus.COMPLETED;
+                finishedAt = LocalDateTime.now();
+            }
+        }
+
+        synchronized void fail(String message) {
+            if (status == ImportJobStatus.RUNNING) {
+                error = message;
+                status = ImportJobStatus.FAILED;
+                finishedAt = LocalDateTime.now();
+            }
+        }
+
+        /**
+         * No interrumpe el hilo: la importación se detiene al leer la fila siguiente,
+         * sin dejar un insertMany a medias, y borra su archivo temporal.
+         */
+        synchronized boolean cancel() {
+            if (status != ImportJobStatus.PENDING && status != ImportJobStatus.RUNNING) {
+                return false;
+            }
+            status = ImportJobStatus.CANCELLED;
+            finishedAt = LocalDateTime.now();
+            return true;
+        }
+    }
+}
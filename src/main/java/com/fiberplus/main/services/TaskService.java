@@ -1,43 +1,88 @@
 package com.fiberplus.main.services;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 
+import com.fiberplus.main.common.RankKeys;
+import com.fiberplus.main.controllers.task.request.TaskBulkOperationDto;
+import com.fiberplus.main.controllers.task.request.TaskSearchDto;
+import com.fiberplus.main.dtos.TaskBulkItemResultDto;
+import com.fiberplus.main.dtos.TaskBulkResultDto;
 import com.fiberplus.main.dtos.TaskDto;
+import com.fiberplus.main.dtos.TaskPageDto;
 import com.fiberplus.main.dtos.TaskUpdateDto;
+import com.fiberplus.main.entities.NotificationEntity;
 import com.fiberplus.main.entities.TaskEntity;
 import com.fiberplus.main.entities.UserEntity;
 import com.fiberplus.main.enums.NotificationType;
+import com.fiberplus.main.enums.TaskBulkItemStatus;
+import com.fiberplus.main.events.TaskChangedEvent;
+import com.fiberplus.main.exception.ConflictException;
+import com.fiberplus.main.exception.GenericException;
 import com.fiberplus.main.exception.ResourceNotFoundException;
-import com.fiberplus.main.repositories.IBoardRepository;
 import com.fiberplus.main.repositories.ITaskRepository;
 import com.fiberplus.main.repositories.IUserRepository;
+import com.fiberplus.main.repositories.TaskQueryRepository;
+import com.fiberplus.main.repositories.TaskQueryRepository.SearchCursor;
+import com.fiberplus.main.repositories.TaskQueryRepository.TaskSearch;
+import com.fiberplus.main.repositories.TaskWriteRepository;
+import com.fiberplus.main.repositories.TaskWriteRepository.ConditionalUpdate;
 
 @Service
 public class TaskService {
     private static final Logger logger = LoggerFactory.getLogger(TaskService.class);
 
+    public static final int MAX_SEARCH_PAGE_SIZE = 200;
+
     private final ITaskRepository taskRepo;
-    private final IBoardRepository boardRepo;
+    private final TaskQueryRepository taskQueries;
+    private final TaskWriteRepository taskWrites;
+    private final ActiveBoardRegistry activeBoards;
+    private final RankRebalanceService rankRebalance;
     private final IUserRepository userRepo;
     private final NotificationService notificationService;
     private final EmailService emailService;
-
-    public TaskService(ITaskRepository taskRepo, IBoardRepository boardRepo, IUserRepository userRepo,
-            NotificationService notificationService, EmailService emailService) {
+    private final ApplicationEventPublisher eventPublisher;
+    private final ChangeSequenceService changeSequence;
+    private final ReportRollupService rollupService;
+
+    public TaskService(ITaskRepository taskRepo, TaskQueryRepository taskQueries, TaskWriteRepository taskWrites,
+            ActiveBoardRegistry activeBoards, RankRebalanceService rankRebalance, IUserRepository userRepo,
+            NotificationService notificationService, EmailService emailService,
+            ApplicationEventPublisher eventPublisher, ChangeSequenceService changeSequence,
+            ReportRollupService rollupService) {
         this.taskRepo = taskRepo;
-        this.boardRepo = boardRepo;
+        this.taskQueries = taskQueries;
+        this.taskWrites = taskWrites;
+        this.activeBoards = activeBoards;
+        this.rankRebalance = rankRebalance;
         this.userRepo = userRepo;
         this.notificationService = notificationService;
         this.emailService = emailService;
+        this.eventPublisher = eventPublisher;
+        this.changeSequence = changeSequence;
+        this.rollupService = rollupService;
     }
 
     public TaskDto createTask(TaskDto dto) {
@@ -56,13 +101,18 @@ public class TaskService {
                 .dueDate(dto.getDueDate())
                 .latitude(dto.getLatitude())
                 .longitude(dto.getLongitude())
+                .rank(rankAtEnd(dto.getBoardId()))
                 .createdAt(now)
                 .updatedAt(now)
                 .build();
 
-        task = taskRepo.save(task);
+        task = saveWithChangeSeq(task);
+        rankRebalance.checkLength(task.getBoardId(), task.getRank());
         logger.info("✅ Tarea creada: {} en board {}", task.getId(), task.getBoardId());
 
+        publishTaskChanged(task.getId(), TaskChangedEvent.Type.CREATED, assignedUserIds,
+                task.getBoardId());
+
         String currentUserId = getCurrentUserId();
 
         for (String userId : assignedUserIds) {
@@ -94,56 +144,70 @@ public class TaskService {
         return entityToDto(task);
     }
 
+    /**
+     * Solo se escriben los campos que cambian, con un único findAndModify. Cada campo
+     * escrito con $set exige que siga teniendo el valor leído, así dos ediciones de
+     * campos distintos no se pisan y dos del mismo campo terminan en conflicto.
+     * Las asignaciones usan $addToSet/$pull, que se combinan sin precondición.
+     */
     public TaskDto updateTask(String taskId, TaskUpdateDto updateDto) {
         TaskEntity task = taskRepo.findById(taskId)
                 .orElseThrow(() -> new ResourceNotFoundException(
                         "No se encontró la tarea con id ", "id", taskId));
 
         StringBuilder changes = new StringBuilder();
+        String previousBoardId = task.getBoardId();
         List<String> previousAssignedUsers = new ArrayList<>(
                 task.getAssignedTo() != null ? task.getAssignedTo() : new ArrayList<>());
 
+        Update update = new Update();
+        Map<String, Object> expected = new LinkedHashMap<>();
+        List<String> newlyAssigned = List.of();
+
         if (updateDto.getTitle() != null && !updateDto.getTitle().equals(task.getTitle())) {
             changes.append("Título actualizado. ");
-            task.setTitle(updateDto.getTitle());
+            setField(update, expected, "title", task.getTitle(), updateDto.getTitle());
         }
 
         if (updateDto.getDescription() != null && !updateDto.getDescription().equals(task.getDescription())) {
             changes.append("Descripción actualizada. ");
-            task.setDescription(updateDto.getDescription());
+            setField(update, expected, "description", task.getDescription(), updateDto.getDescription());
         }
 
         if (updateDto.getPriority() != null && !updateDto.getPriority().equals(task.getPriority())) {
             changes.append("Prioridad cambiada a " + updateDto.getPriority() + ". ");
-            task.setPriority(updateDto.getPriority());
+            setField(update, expected, "priority", task.getPriority(), updateDto.getPriority());
         }
 
         if (updateDto.getBoardId() != null && !updateDto.getBoardId().equals(task.getBoardId())) {
-            boardRepo.findById(updateDto.getBoardId())
-                    .orElseThrow(() -> new ResourceNotFoundException(
-                            "No se encontró el tablero con id ", "id", updateDto.getBoardId()));
+            if (!activeBoards.isActive(updateDto.getBoardId())) {
+                throw new ResourceNotFoundException(
+                        "No se encontró el tablero con id ", "id", updateDto.getBoardId());
+            }
             changes.append("Tablero actualizado. ");
-            task.setBoardId(updateDto.getBoardId());
+            setField(update, expected, "boardId", task.getBoardId(), updateDto.getBoardId());
+            update.set("rank", rankAtEnd(updateDto.getBoardId()));
         }
 
         if (updateDto.getDueDate() != null && !updateDto.getDueDate().equals(task.getDueDate())) {
             changes.append("Fecha de vencimiento actualizada. ");
-            task.setDueDate(updateDto.getDueDate());
+            setField(update, expected, "dueDate", task.getDueDate(), updateDto.getDueDate());
         }
 
-        if (updateDto.getLatitude() != null) {
-            task.setLatitude(updateDto.getLatitude());
+        if (updateDto.getLatitude() != null && !updateDto.getLatitude().equals(task.getLatitude())) {
+            setField(update, expected, "latitude", task.getLatitude(), updateDto.getLatitude());
         }
 
-        if (updateDto.getLongitude() != null) {
-            task.setLongitude(updateDto.getLongitude());
+        if (updateDto.getLongitude() != null && !updateDto.getLongitude().equals(task.getLongitude())) {
+            setField(update, expected, "longitude", task.getLongitude(), updateDto.getLongitude());
         }
 
         if (updateDto.getAssignedTo() != null) {
             List<String> newAssignedUsers = updateDto.getAssignedTo();
 
-            List<String> newlyAssigned = newAssignedUsers.stream()
+            newlyAssigned = newAssignedUsers.stream()
                     .filter(userId -> !previousAssignedUsers.contains(userId))
+                    .distinct()
                     .collect(Collectors.toList());
 
             List<String> removedUsers = previousAssignedUsers.stream()
@@ -152,44 +216,74 @@ public class TaskService {
 
             if (!newlyAssigned.isEmpty() || !removedUsers.isEmpty()) {
                 changes.append("Asignaciones actualizadas. ");
-                task.setAssignedTo(newAssignedUsers);
+
+                // $addToSet y $pull no pueden ir juntos sobre el mismo campo
+                if (removedUsers.isEmpty()) {
+                    update.addToSet("assignedTo").each(newlyAssigned.toArray());
+                } else if (newlyAssigned.isEmpty()) {
+                    update.pullAll("assignedTo", removedUsers.toArray());
+                } else {
+                    setField(update, expected, "assignedTo", task.getAssignedTo(), newAssignedUsers);
+                }
             }
+        }
 
-            String currentUserId = getCurrentUserId();
+        if (update.getUpdateObject().isEmpty()) {
+            return entityToDto(task);
+        }
 
-            for (String userId : newlyAssigned) {
-                try {
-                    UserEntity user = userRepo.findById(userId).orElse(null);
-                    if (user != null) {
-                        notificationService.createAndSendNotification(
-                                userId,
-                                "Nueva tarea asignada",
-                                "Se te ha asignado la tarea: " + task.getTitle(),
-                                task.getId(),
-                                task.getTitle(),
-                                NotificationType.TASK_ASSIGNED,
-                                currentUserId);
+        update.set("updatedAt", LocalDateTime.now());
+        task = changeSequence.record(
+                seq -> taskWrites.updateIfUnchanged(taskId, expected, update.set("changeSeq", seq)));
 
-                        emailService.sendTaskAssignmentEmail(
-                                user.getEmail(),
-                                user.getName(),
-                                task.getTitle(),
-                                task.getDescription(),
-                                task.getPriority(),
-                                task.getDueDate());
-                    }
-                } catch (Exception e) {
-                    logger.error("Error enviando notificación/email a usuario {}: {}", userId, e.getMessage());
+        if (task == null) {
+            taskRepo.findById(taskId)
+                    .orElseThrow(() -> new ResourceNotFoundException(
+                            "No se encontró la tarea con id ", "id", taskId));
+            throw new ConflictException("Otro usuario modificó los mismos campos de la tarea " + taskId
+                    + "; recargue e intente de nuevo.");
+        }
+        logger.info("✅ Tarea actualizada: {}", task.getId());
+
+        String currentUserId = getCurrentUserId();
+
+        for (String userId : newlyAssigned) {
+            try {
+                UserEntity user = userRepo.findById(userId).orElse(null);
+                if (user != null) {
+                    notificationService.createAndSendNotification(
+                            userId,
+                            "Nueva tarea asignada",
+                            "Se te ha asignado la tarea: " + task.getTitle(),
+                            task.getId(),
+                            task.getTitle(),
+                            NotificationType.TASK_ASSIGNED,
+                            currentUserId);
+
+                    emailService.sendTaskAssignmentEmail(
+                            user.getEmail(),
+                            user.getName(),
+                            task.getTitle(),
+                            task.getDescription(),
+                            task.getPriority(),
+                            task.getDueDate());
                 }
+            } catch (Exception e) {
+                logger.error("Error enviando notificación/email a usuario {}: {}", userId, e.getMessage());
             }
         }
 
-        task.setUpdatedAt(LocalDateTime.now());
-        task = taskRepo.save(task);
-        logger.info("✅ Tarea actualizada: {}", task.getId());
+        Set<String> affectedUsers = new HashSet<>(previousAssignedUsers);
+        if (task.getAssignedTo() != null) {
+            affectedUsers.addAll(task.getAssignedTo());
+        }
+        publishTaskChanged(task.getId(),
+                previousBoardId != null && previousBoardId.equals(task.getBoardId())
+                        ? TaskChangedEvent.Type.UPDATED
+                        : TaskChangedEvent.Type.MOVED,
+                affectedUsers, previousBoardId, task.getBoardId());
 
         if (changes.length() > 0) {
-            String currentUserId = getCurrentUserId();
             List<String> currentAssignedUsers = task.getAssignedTo() != null ? task.getAssignedTo() : new ArrayList<>();
 
             for (String userId : currentAssignedUsers) {
@@ -224,24 +318,42 @@ public class TaskService {
         logger.info("🔄 Moviendo tarea {} de board {} a board {} (índice: {})",
                 taskId, fromBoardId, toBoardId, newIndex);
 
-        TaskEntity task = taskRepo.findById(taskId)
-                .orElseThrow(() -> new ResourceNotFoundException(
-                        "No se encontró la tarea con id ", "id", taskId));
+        if (!activeBoards.isActive(toBoardId)) {
+            throw new ResourceNotFoundException("No se encontró el tablero con id ", "id", toBoardId);
+        }
 
-        boardRepo.findById(toBoardId)
-                .orElseThrow(() -> new ResourceNotFoundException(
-                        "No se encontró el tablero con id ", "id", toBoardId));
+        // La nueva clave queda entre las tareas vecinas de newIndex: solo cambia la tarea movida
+        String rank = rankAt(toBoardId, taskId, newIndex);
 
-        task.setBoardId(toBoardId);
-        task.setUpdatedAt(LocalDateTime.now());
+        // Un solo findAndModify condicionado al tablero de origen: si dos usuarios
+        // arrastran la misma tarea, el segundo recibe un conflicto en vez de pisar al primero
+        LocalDateTime now = LocalDateTime.now();
+        TaskEntity task = changeSequence.record(
+                seq -> taskWrites.moveIfOnBoard(taskId, fromBoardId, toBoardId, rank, now, seq));
 
-        task = taskRepo.save(task);
+        if (task == null) {
+            taskRepo.findById(taskId)
+                    .orElseThrow(() -> new ResourceNotFoundException(
+                            "No se encontró la tarea con id ", "id", taskId));
+            throw new ConflictException("La tarea " + taskId + " ya no está en el tablero " + fromBoardId
+                    + "; otro usuario la movió.");
+        }
 
+        rankRebalance.checkLength(toBoardId, rank);
         logger.info("✅ Tarea {} movida exitosamente al board {}", taskId, toBoardId);
 
         String currentUserId = getCurrentUserId();
         List<String> assignedUsers = task.getAssignedTo() != null ? task.getAssignedTo() : new ArrayList<>();
 
+        // Reordenar dentro del mismo tablero no cambia conteos ni se notifica a los asignados
+        if (fromBoardId.equals(toBoardId)) {
+            publishTaskChanged(task.getId(), TaskChangedEvent.Type.REORDERED, assignedUsers, toBoardId);
+            return entityToDto(task);
+        }
+
+        publishTaskChanged(task.getId(), TaskChangedEvent.Type.MOVED, assignedUsers, fromBoardId, toBoardId);
+        recordClosedMove(task, fromBoardId);
+
         for (String userId : assignedUsers) {
             try {
                 UserEntity user = userRepo.findById(userId).orElse(null);
@@ -270,6 +382,387 @@ public class TaskService {
         return entityToDto(task);
     }
 
+    /**
+     * Aplica un lote de movimientos, ediciones y asignaciones con un único bulkWrite sin
+     * orden. Cada escritura lleva sus propias precondiciones, como en updateTask, así una
+     * tarea en conflicto no frena al resto; el resultado dice qué pasó con cada operación,
+     * según el changeSeq que cada tarea tiene al releerla.
+     * Las notificaciones se agrupan en una por usuario y tipo, y no se envían correos.
+     */
+    public TaskBulkResultDto applyBulk(List<TaskBulkOperationDto> operations) {
+        TaskBulkItemResultDto[] results = new TaskBulkItemResultDto[operations.size()];
+        Map<String, TaskEntity> tasks = taskRepo.findAllById(operations.stream()
+                .map(TaskBulkOperationDto::getTaskId)
+                .distinct()
+                .toList())
+                .stream()
+                .collect(Collectors.toMap(TaskEntity::getId, task -> task));
+
+        Set<String> seen = new HashSet<>();
+        Map<String, String> lastRanks = new HashMap<>();
+        List<ConditionalUpdate> writes = new ArrayList<>();
+        List<Integer> writeIndexes = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now();
+
+        for (int i = 0; i < operations.size(); i++) {
+            TaskBulkOperationDto operation = operations.get(i);
+            TaskEntity task = tasks.get(operation.getTaskId());
+
+            if (!seen.add(operation.getTaskId())) {
+                results[i] = bulkItem(i, operation, task, TaskBulkItemStatus.INVALID,
+                        "La tarea ya tiene otra operación en este lote");
+                continue;
+            }
+            if (task == null) {
+                results[i] = bulkItem(i, operation, null, TaskBulkItemStatus.NOT_FOUND,
+                        "No se encontró la tarea con id " + operation.getTaskId());
+                continue;
+            }
+
+            try {
+                Update update = new Update();
+                Map<String, Object> expected = new LinkedHashMap<>();
+                planBulkOperation(operation, task, update, expected, lastRanks);
+
+                if (update.getUpdateObject().isEmpty()) {
+                    results[i] = bulkItem(i, operation, task, TaskBulkItemStatus.UNCHANGED, null);
+                } else {
+                    update.set("updatedAt", now);
+                    writes.add(new ConditionalUpdate(task.getId(), expected, update));
+                    writeIndexes.add(i);
+                }
+            } catch (GenericException e) {
+                results[i] = bulkItem(i, operation, task, TaskBulkItemStatus.INVALID, e.getMessage());
+            } catch (ResourceNotFoundException e) {
+                results[i] = bulkItem(i, operation, task, TaskBulkItemStatus.NOT_FOUND, e.getMessage());
+            } catch (ConflictException e) {
+                results[i] = bulkItem(i, operation, task, TaskBulkItemStatus.CONFLICT, e.getMessage());
+            }
+        }
+
+        List<TaskEntity[]> applied = new ArrayList<>();
+        if (!writes.isEmpty()) {
+            long firstSeq = changeSequence.recordBatch(writes.size(), first -> {
+                try {
+                    taskWrites.updateAllIfUnchanged(writes, first);
+                } catch (BulkOperationException e) {
+                    logger.warn("⚠️ Lote de tareas con {} escrituras fallidas", e.getErrors().size());
+                }
+                return first;
+            });
+
+            // Una escritura se aplicó si la tarea quedó con el changeSeq que se le reservó
+            Map<String, TaskEntity> current = taskRepo.findAllById(writes.stream()
+                    .map(ConditionalUpdate::taskId)
+                    .toList())
+                    .stream()
+                    .collect(Collectors.toMap(TaskEntity::getId, task -> task));
+
+            // Con un changeSeq mayor, otra escritura la tocó después: se decide por sus campos
+            List<ConditionalUpdate> overwritten = new ArrayList<>();
+            for (int j = 0; j < writes.size(); j++) {
+                TaskEntity after = current.get(writes.get(j).taskId());
+                if (after != null && after.getChangeSeq() != null && after.getChangeSeq() > firstSeq + j) {
+                    overwritten.add(writes.get(j));
+                }
+            }
+            Set<String> keptValues = taskWrites.findIdsWithWrittenValues(overwritten);
+
+            for (int j = 0; j < writes.size(); j++) {
+                int index = writeIndexes.get(j);
+                TaskBulkOperationDto operation = operations.get(index);
+                TaskEntity before = tasks.get(operation.getTaskId());
+                TaskEntity after = current.get(operation.getTaskId());
+                boolean written = after != null && after.getChangeSeq() != null
+                        && (after.getChangeSeq() == firstSeq + j
+                                || (after.getChangeSeq() > firstSeq + j && keptValues.contains(after.getId())));
+
+                if (written) {
+                    results[index] = bulkItem(index, operation, after, TaskBulkItemStatus.APPLIED, null);
+                    results[index].setPreviousBoardId(before.getBoardId());
+                    applied.add(new TaskEntity[] { before, after });
+                    recordClosedMove(after, before.getBoardId());
+                } else if (after == null) {
+                    results[index] = bulkItem(index, operation, null, TaskBulkItemStatus.NOT_FOUND,
+                            "No se encontró la tarea con id " + operation.getTaskId());
+                } else {
+                    results[index] = bulkItem(index, operation, after, TaskBulkItemStatus.CONFLICT,
+                            "Otro usuario modificó los mismos campos de la tarea; recargue e intente de nuevo.");
+                }
+            }
+
+            lastRanks.forEach(rankRebalance::checkLength);
+        }
+
+        if (!applied.isEmpty()) {
+            publishBulkChanged(applied);
+            notifyBulkChanged(applied);
+        }
+
+        List<TaskBulkItemResultDto> items = List.of(results);
+        int appliedCount = (int) items.stream()
+                .filter(item -> item.getStatus() == TaskBulkItemStatus.APPLIED
+                        || item.getStatus() == TaskBulkItemStatus.UNCHANGED)
+                .count();
+        logger.info("✅ Lote de tareas: {} aplicadas de {} operaciones", appliedCount, items.size());
+
+        return TaskBulkResultDto.builder()
+                .applied(appliedCount)
+                .failed(items.size() - appliedCount)
+                .results(items)
+                .build();
+    }
+
+    /**
+     * Traduce una operación del lote a un $set condicionado sobre la tarea leída.
+     * Las tareas que llegan al mismo tablero se encadenan al final en el orden del lote.
+     */
+    private void planBulkOperation(TaskBulkOperationDto operation, TaskEntity task, Update update,
+            Map<String, Object> expected, Map<String, String> lastRanks) {
+        switch (operation.getType()) {
+            case MOVE -> {
+                String toBoardId = operation.getToBoardId();
+                if (toBoardId == null || toBoardId.isBlank()) {
+                    throw new GenericException("El board de destino es requerido para mover la tarea.");
+                }
+                if (operation.getFromBoardId() != null && !operation.getFromBoardId().equals(task.getBoardId())) {
+                    throw new ConflictException("La tarea ya no está en el tablero " + operation.getFromBoardId()
+                            + "; otro usuario la movió.");
+                }
+                if (!toBoardId.equals(task.getBoardId())) {
+                    if (!activeBoards.isActive(toBoardId)) {
+                        throw new ResourceNotFoundException("No se encontró el tablero con id ", "id", toBoardId);
+                    }
+                    String previousRank = lastRanks.containsKey(toBoardId)
+                            ? lastRanks.get(toBoardId)
+                            : taskQueries.findLastRank(toBoardId);
+                    String rank = RankKeys.between(previousRank, null);
+                    lastRanks.put(toBoardId, rank);
+
+                    setField(update, expected, "boardId", task.getBoardId(), toBoardId);
+                    update.set("rank", rank);
+                }
+            }
+            case ASSIGN -> {
+                if (operation.getAssignedTo() == null) {
+                    throw new GenericException("La lista de asignados es requerida para asignar la tarea.");
+                }
+                List<String> assignedTo = operation.getAssignedTo().stream().distinct().toList();
+                List<String> previous = task.getAssignedTo() != null ? task.getAssignedTo() : List.of();
+                if (!new HashSet<>(assignedTo).equals(new HashSet<>(previous))) {
+                    setField(update, expected, "assignedTo", task.getAssignedTo(), assignedTo);
+                }
+            }
+            case UPDATE -> {
+                if (operation.getTitle() != null && operation.getTitle().isBlank()) {
+                    throw new GenericException("El título de la tarea no puede estar vacío.");
+                }
+                if (operation.getTitle() != null && !operation.getTitle().equals(task.getTitle())) {
+                    setField(update, expected, "title", task.getTitle(), operation.getTitle());
+                }
+                if (operation.getDescription() != null && !operation.getDescription().equals(task.getDescription())) {
+                    setField(update, expected, "description", task.getDescription(), operation.getDescription());
+                }
+                if (operation.getPriority() != null && !operation.getPriority().equals(task.getPriority())) {
+                    setField(update, expected, "priority", task.getPriority(), operation.getPriority());
+                }
+                if (operation.getDueDate() != null && !operation.getDueDate().equals(task.getDueDate())) {
+                    setField(update, expected, "dueDate", task.getDueDate(), operation.getDueDate());
+                }
+            }
+        }
+    }
+
+    private TaskBulkItemResultDto bulkItem(int index, TaskBulkOperationDto operation, TaskEntity task,
+            TaskBulkItemStatus status, String message) {
+        return TaskBulkItemResultDto.builder()
+                .index(index)
+                .taskId(operation.getTaskId())
+                .status(status)
+                .message(message)
+                .task(task != null ? entityToDto(task) : null)
+                .build();
+    }
+
+    /**
+     * Un solo evento para todo el lote, con todos los tableros y usuarios afectados.
+     */
+    /**
+     * Los acumulados de reportes de una tarea cerrada siguen a la tarea a su nuevo tablero.
+     */
+    private void recordClosedMove(TaskEntity task, String fromBoardId) {
+        try {
+            rollupService.recordMove(task, fromBoardId);
+        } catch (Exception e) {
+            logger.error("Error actualizando acumulado diario para tarea {}: {}", task.getId(), e.getMessage());
+        }
+    }
+
+    private void publishBulkChanged(List<TaskEntity[]> applied) {
+        Set<String> boards = new HashSet<>();
+        Set<String> users = new HashSet<>();
+        boolean moved = false;
+
+        for (TaskEntity[] change : applied) {
+            for (TaskEntity task : change) {
+                boards.add(task.getBoardId());
+                if (task.getAssignedTo() != null) {
+                    users.addAll(task.getAssignedTo());
+                }
+            }
+            moved |= !Objects.equals(change[0].getBoardId(), change[1].getBoardId());
+        }
+        boards.remove(null);
+
+        eventPublisher.publishEvent(new TaskChangedEvent(null,
+                moved ? TaskChangedEvent.Type.MOVED : TaskChangedEvent.Type.UPDATED, boards, users));
+    }
+
+    /**
+     * Una notificación por usuario y tipo que resume todas sus tareas del lote.
+     */
+    private void notifyBulkChanged(List<TaskEntity[]> applied) {
+        String currentUserId = getCurrentUserId();
+        Map<NotificationType, Map<String, List<TaskEntity>>> byType = new LinkedHashMap<>();
+
+        for (TaskEntity[] change : applied) {
+            TaskEntity before = change[0];
+            TaskEntity after = change[1];
+            List<String> previous = before.getAssignedTo() != null ? before.getAssignedTo() : List.of();
+            List<String> current = after.getAssignedTo() != null ? after.getAssignedTo() : List.of();
+            NotificationType changeType = !Objects.equals(before.getBoardId(), after.getBoardId())
+                    ? NotificationType.TASK_MOVED
+                    : NotificationType.TASK_UPDATED;
+
+            for (String userId : current) {
+                NotificationType type = previous.contains(userId) ? changeType : NotificationType.TASK_ASSIGNED;
+                if (type == NotificationType.TASK_ASSIGNED || !userId.equals(currentUserId)) {
+                    byType.computeIfAbsent(type, key -> new LinkedHashMap<>())
+                            .computeIfAbsent(userId, key -> new ArrayList<>())
+                            .add(after);
+                }
+            }
+        }
+
+        Set<String> userIds = byType.values().stream()
+                .flatMap(byUser -> byUser.keySet().stream())
+                .collect(Collectors.toSet());
+        if (userIds.isEmpty()) {
+            return;
+        }
+        Set<String> existingUsers = userRepo.findAllById(userIds).stream()
+                .map(UserEntity::getId)
+                .collect(Collectors.toSet());
+
+        List<NotificationEntity> notifications = new ArrayList<>();
+        byType.forEach((type, byUser) -> byUser.forEach((userId, userTasks) -> {
+            if (existingUsers.contains(userId)) {
+                notifications.add(bulkNotification(userId, type, userTasks, currentUserId));
+            }
+        }));
+
+        try {
+            notificationService.createAndSendNotifications(notifications);
+        } catch (Exception e) {
+            logger.error("Error enviando notificaciones del lote de tareas: {}", e.getMessage());
+        }
+    }
+
+    private NotificationEntity bulkNotification(String userId, NotificationType type, List<TaskEntity> tasks,
+            String currentUserId) {
+        TaskEntity first = tasks.get(0);
+        boolean single = tasks.size() == 1;
+        String titles = tasks.stream().limit(3).map(TaskEntity::getTitle).collect(Collectors.joining(", "))
+                + (tasks.size() > 3 ? "…" : "");
+
+        String title;
+        String message;
+        switch (type) {
+            case TASK_ASSIGNED -> {
+                title = single ? "Nueva tarea asignada" : "Nuevas tareas asignadas";
+                message = single
+                        ? "Se te ha asignado la tarea: " + first.getTitle()
+                        : "Se te asignaron " + tasks.size() + " tareas: " + titles;
+            }
+            case TASK_MOVED -> {
+                title = single ? "Tarea movida" : "Tareas movidas";
+                message = single
+                        ? "La tarea '" + first.getTitle() + "' ha sido movida a otro tablero"
+                        : tasks.size() + " tareas asignadas a ti fueron movidas de tablero: " + titles;
+            }
+            default -> {
+                title = single ? "Tarea actualizada" : "Tareas actualizadas";
+                message = single
+                        ? "La tarea '" + first.getTitle() + "' ha sido actualizada"
+                        : tasks.size() + " tareas asignadas a ti fueron actualizadas: " + titles;
+            }
+        }
+
+        return NotificationEntity.builder()
+                .userId(userId)
+                .title(title)
+                .message(message)
+                .taskId(single ? first.getId() : null)
+                .taskTitle(single ? first.getTitle() : null)
+                .type(type)
+                .actionBy(currentUserId)
+                .build();
+    }
+
+    private String rankAtEnd(String boardId) {
+        return RankKeys.between(taskQueries.findLastRank(boardId), null);
+    }
+
+    /**
+     * Clave para dejar la tarea en la posición {@code index} del tablero; sin índice va al final.
+     * Si algún vecino aún no tiene rank, la tarea va al final y el tablero se redistribuye.
+     */
+    private String rankAt(String boardId, String taskId, Integer index) {
+        if (index == null) {
+            return rankAtEnd(boardId);
+        }
+
+        List<TaskEntity> neighbors = taskQueries.findRankNeighbors(boardId, taskId, Math.max(0, index));
+        TaskEntity before = neighbors.get(0);
+        TaskEntity after = neighbors.get(1);
+
+        if ((before != null && before.getRank() == null) || (after != null && after.getRank() == null)) {
+            rankRebalance.checkLength(boardId, null);
+            return rankAtEnd(boardId);
+        }
+
+        // Dos inserciones simultáneas en el mismo hueco pueden dejar vecinos con la misma
+        // clave: la tarea queda justo después de ambos hasta la redistribución
+        if (before != null && after != null && before.getRank().compareTo(after.getRank()) >= 0) {
+            rankRebalance.checkLength(boardId, null);
+            return RankKeys.justAfter(after.getRank());
+        }
+        return RankKeys.between(before != null ? before.getRank() : null, after != null ? after.getRank() : null);
+    }
+
+    private void setField(Update update, Map<String, Object> expected, String field, Object previous, Object value) {
+        update.set(field, value);
+        expected.put(field, previous);
+    }
+
+    private TaskEntity saveWithChangeSeq(TaskEntity task) {
+        return changeSequence.record(seq -> {
+            task.setChangeSeq(seq);
+            return taskRepo.save(task);
+        });
+    }
+
+    private void publishTaskChanged(String taskId, TaskChangedEvent.Type type, Collection<String> userIds,
+            String... boardIds) {
+        Set<String> boards = new HashSet<>();
+        for (String boardId : boardIds) {
+            if (boardId != null) {
+                boards.add(boardId);
+            }
+        }
+        eventPublisher.publishEvent(new TaskChangedEvent(taskId, type, boards, new HashSet<>(userIds)));
+    }
+
     private String getCurrentUserId() {
         try {
             Object principal = SecurityContextHolder.getContext().getAuthentication().getPrincipal();
@@ -282,6 +775,65 @@ public class TaskService {
         }
     }
 
+    /**
+     * Búsqueda de tareas filtrada en MongoDB y paginada por clave. El cursor es opaco:
+     * codifica el valor del campo de orden y el id de la última tarea devuelta.
+     */
+    public TaskPageDto searchTasks(TaskSearchDto search) {
+        String sortField = search.getSort() == null ? TaskQueryRepository.SORT_CREATED_AT : search.getSort();
+        if (!sortField.equals(TaskQueryRepository.SORT_CREATED_AT) && !sortField.equals(TaskQueryRepository.SORT_DUE_DATE)) {
+            throw new GenericException("Orden no soportado: " + sortField + ". Use createdAt o dueDate.");
+        }
+
+        boolean ascending;
+        if (search.getDirection() == null || search.getDirection().isBlank()) {
+            ascending = sortField.equals(TaskQueryRepository.SORT_DUE_DATE);
+        } else if (search.getDirection().equalsIgnoreCase("asc") || search.getDirection().equalsIgnoreCase("desc")) {
+            ascending = search.getDirection().equalsIgnoreCase("asc");
+        } else {
+            throw new GenericException("Dirección no soportada: " + search.getDirection() + ". Use asc o desc.");
+        }
+
+        int limit = Math.max(1, Math.min(search.getPageSize(), MAX_SEARCH_PAGE_SIZE));
+        TaskSearch filter = new TaskSearch(blankToNull(search.getBoardId()), blankToNull(search.getStatus()),
+                blankToNull(search.getPriority()), blankToNull(search.getAssignedTo()),
+                search.getDueFrom(), search.getDueTo(), search.getCreatedFrom(), search.getCreatedTo());
+
+        List<TaskEntity> tasks = taskQueries.search(filter, sortField, ascending, decodeCursor(search.getCursor()),
+                limit + 1);
+        boolean hasMore = tasks.size() > limit;
+        List<TaskEntity> page = hasMore ? tasks.subList(0, limit) : tasks;
+
+        return TaskPageDto.builder()
+                .tasks(page.stream().map(this::entityToDto).collect(Collectors.toList()))
+                .nextCursor(hasMore ? encodeCursor(page.get(page.size() - 1), sortField) : null)
+                .build();
+    }
+
+    private String encodeCursor(TaskEntity last, String sortField) {
+        LocalDateTime value = sortField.equals(TaskQueryRepository.SORT_DUE_DATE) ? last.getDueDate() : last.getCreatedAt();
+        String raw = (value != null ? value.toString() : "") + "|" + last.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private SearchCursor decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf('|');
+            String value = raw.substring(0, separator);
+            return new SearchCursor(value.isEmpty() ? null : LocalDateTime.parse(value), raw.substring(separator + 1));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new GenericException("Cursor de búsqueda inválido.");
+        }
+    }
+
+    private String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value;
+    }
+
     private TaskDto entityToDto(TaskEntity task) {
         return TaskDto.builder()
                 .id(task.getId())
@@ -293,6 +845,8 @@ public class TaskService {
                 .dueDate(task.getDueDate())
                 .latitude(task.getLatitude())
                 .longitude(task.getLongitude())
+                .status(task.getStatus())
+                .rank(task.getRank())
                 .createdAt(task.getCreatedAt())
                 .updatedAt(task.getUpdatedAt())
                 .build();
@@ -9,6 +9,7 @@ import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
@@ -18,6 +19,7 @@ import com.fiberplus.main.dtos.TeamGroupDto;
 import com.fiberplus.main.dtos.TeamMemberDto;
 import com.fiberplus.main.dtos.UserDto;
 import com.fiberplus.main.entities.UserEntity;
+import com.fiberplus.main.events.UserChangedEvent;
 import com.fiberplus.main.exception.ConflictException;
 import com.fiberplus.main.exception.GenericException;
 import com.fiberplus.main.repositories.IUserRepository;
@@ -30,15 +32,18 @@ public class UserService {
     private final IUserRepository _repo;
     private final PasswordEncoder _passwordEncoder;
     private final CloudinaryService _cloudinaryService;
+    private final ApplicationEventPublisher _eventPublisher;
     
     private static final String PROFILE_PHOTOS_FOLDER = "fiberplus/profiles";
 
     public UserService(IUserRepository _repo, 
                       PasswordEncoder _passwordEncoder,
-                      CloudinaryService _cloudinaryService) {
+                      CloudinaryService _cloudinaryService,
+                      ApplicationEventPublisher _eventPublisher) {
         this._repo = _repo;
         this._passwordEncoder = _passwordEncoder;
         this._cloudinaryService = _cloudinaryService;
+        this._eventPublisher = _eventPublisher;
     }
 
     public UserDto insert(UserDto dto) {
@@ -129,6 +134,7 @@ public class UserService {
         UserEntity updatedUser = _repo.save(user);
         
         logger.info("Usuario actualizado exitosamente: {}", updatedUser.getUsername());
+        _eventPublisher.publishEvent(new UserChangedEvent(updatedUser.getId()));
 
         return mapToDto(updatedUser);
     }
@@ -162,6 +168,7 @@ public class UserService {
         UserEntity updatedUser = _repo.save(user);
         
         logger.info("Foto de perfil actualizada para usuario: {}", updatedUser.getUsername());
+        _eventPublisher.publishEvent(new UserChangedEvent(updatedUser.getId()));
 
         return mapToDto(updatedUser);
     }
@@ -188,6 +195,7 @@ public class UserService {
         UserEntity updatedUser = _repo.save(user);
         
         logger.info("Foto de perfil restablecida a default para usuario: {}", updatedUser.getUsername());
+        _eventPublisher.publishEvent(new UserChangedEvent(updatedUser.getId()));
 
         return mapToDto(updatedUser);
     }
@@ -235,6 +243,7 @@ public class UserService {
         _repo.delete(user);
         
         logger.info("Usuario eliminado: {}", user.getUsername());
+        _eventPublisher.publishEvent(new UserChangedEvent(user.getId()));
     }
 
     public UserDto getById(String id) {
@@ -0,0 +1,70 @@
+package com.fiberplus.main.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import org.junit.jupiter.api.Test;
+
+class CsvReaderTest {
+
+    @Test
+    void readsPlainRecords() throws IOException {
+        CsvReader csv = reader("title,boardId\nTarea 1,b1\nTarea 2,b2\n");
+
+        assertThat(csv.next()).containsExactly("title", "boardId");
+        assertThat(csv.next()).containsExactly("Tarea 1", "b1");
+        assertThat(csv.next()).containsExactly("Tarea 2", "b2");
+        assertThat(csv.next()).isNull();
+    }
+
+    @Test
+    void keepsCommasAndEscapedQuotesInsideQuotes() throws IOException {
+        CsvReader csv = reader("\"Revisar, cambiar\",\"Dijo \"\"ya\"\"\",\n");
+
+        assertThat(csv.next()).containsExactly("Revisar, cambiar", "Dijo \"ya\"", "");
+    }
+
+    @Test
+    void quotedFieldsSpanLinesAndLineNumbersFollow() throws IOException {
+        CsvReader csv = reader("title,description\r\nA,\"línea 1\r\nlínea 2\nlínea 3\"\r\nB,x\r\n");
+
+        csv.next();
+        assertThat(csv.next()).containsExactly("A", "línea 1\r\nlínea 2\nlínea 3");
+        assertThat(csv.lineNumber()).isEqualTo(2);
+        assertThat(csv.next()).containsExactly("B", "x");
+        assertThat(csv.lineNumber()).isEqualTo(5);
+    }
+
+    @Test
+    void skipsBlankLinesAndReadsLastRecordWithoutNewline() throws IOException {
+        CsvReader csv = reader("a,b\n\n\nc,d");
+
+        assertThat(csv.next()).containsExactly("a", "b");
+        assertThat(csv.next()).containsExactly("c", "d");
+        assertThat(csv.lineNumber()).isEqualTo(4);
+        assertThat(csv.next()).isNull();
+    }
+
+    @Test
+    void emptyQuotedFieldIsARecord() throws IOException {
+        assertThat(reader("\"\",x\n").next()).containsExactly("", "x");
+    }
+
+    @Test
+    void rejectsUnclosedQuote() throws IOException {
+        CsvReader csv = reader("a,b\n\"sin cerrar,c\nd\n");
+
+        assertThat(csv.next()).containsExactly("a", "b");
+        assertThatThrownBy(csv::next)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Comillas sin cerrar");
+        assertThat(csv.lineNumber()).isEqualTo(2);
+    }
+
+    private static CsvReader reader(String content) {
+        return new CsvReader(new StringReader(content));
+    }
+}
@@ -0,0 +1,96 @@
+package com.fiberplus.main.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class RankKeysTest {
+
+    @Test
+    void betweenIsStrictlyInsideTheGap() {
+        assertStrictlyBetween("a", "b");
+        assertStrictlyBetween("a", "a1");
+        assertStrictlyBetween("0", "1");
+        assertStrictlyBetween("Az", "B");
+        assertStrictlyBetween("V", "V01");
+    }
+
+    @Test
+    void betweenWithOpenEndsStaysShort() {
+        assertThat(RankKeys.between(null, null)).isNotEmpty();
+        assertThat(RankKeys.between("V", null)).isGreaterThan("V").hasSize(1);
+        assertThat(RankKeys.between(null, "V")).isLessThan("V").hasSize(1);
+    }
+
+    @Test
+    void betweenRejectsKeysOutOfOrder() {
+        assertThatThrownBy(() -> RankKeys.between("b", "a")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> RankKeys.between("a", "a")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void repeatedInsertsAtTheSamePositionKeepTheOrder() {
+        List<String> keys = new ArrayList<>(List.of("V", "W"));
+        for (int i = 0; i < 200; i++) {
+            keys.add(1, RankKeys.between(keys.get(0), keys.get(1)));
+        }
+
+        assertThat(keys).isSorted().doesNotHaveDuplicates();
+    }
+
+    @Test
+    void appendingAtTheEndKeepsTheOrder() {
+        List<String> keys = new ArrayList<>();
+        String last = null;
+        for (int i = 0; i < 500; i++) {
+            last = RankKeys.between(last, null);
+            keys.add(last);
+        }
+
+        assertThat(keys).isSorted().doesNotHaveDuplicates();
+    }
+
+    @Test
+    void justAfterSortsBeforeTheNextKey() {
+        String key = "V";
+        String after = RankKeys.justAfter(key);
+
+        assertThat(after).isGreaterThan(key).isLessThan(RankKeys.between(key, null));
+    }
+
+    @Test
+    void spreadIsSortedWithoutTrailingZeros() {
+        for (int count : new int[] { 1, 2, 15, 16, 61, 62, 1000, 20000 }) {
+            List<String> keys = RankKeys.spread(count);
+
+            assertThat(keys).hasSize(count).isSorted().doesNotHaveDuplicates();
+            assertThat(keys).noneMatch(key -> key.endsWith("0"));
+        }
+    }
+
+    @Test
+    void spreadLeavesRoomBetweenNeighbours() {
+        List<String> keys = RankKeys.spread(100);
+        for (int i = 1; i < keys.size(); i++) {
+            assertStrictlyBetween(keys.get(i - 1), keys.get(i));
+        }
+    }
+
+    @Test
+    void afterAllSortsAfterTheLastKey() {
+        List<String> keys = RankKeys.afterAll("V", 50);
+
+        assertThat(keys).hasSize(50).isSorted().doesNotHaveDuplicates();
+        assertThat(keys.get(0)).isGreaterThan("V");
+    }
+
+    private static void assertStrictlyBetween(String before, String after) {
+        String key = RankKeys.between(before, after);
+
+        assertThat(key).isGreaterThan(before).isLessThan(after).doesNotEndWith("0");
+    }
+}
@@ -0,0 +1,133 @@
+package com.fiberplus.main.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+class CompletionStatsTest {
+
+    @Test
+    void firstHoursHaveOneBucketEach() {
+        for (int hours = 0; hours < 32; hours++) {
+            assertThat(CompletionStats.bucketOf(hours)).isEqualTo(hours);
+        }
+    }
+
+    @Test
+    void eachPowerOfTwoSplitsIntoEightBuckets() {
+        assertThat(CompletionStats.bucketOf(32)).isEqualTo(32);
+        assertThat(CompletionStats.bucketOf(35)).isEqualTo(32);
+        assertThat(CompletionStats.bucketOf(36)).isEqualTo(33);
+        assertThat(CompletionStats.bucketOf(63)).isEqualTo(39);
+        assertThat(CompletionStats.bucketOf(64)).isEqualTo(40);
+        assertThat(CompletionStats.bucketOf(71)).isEqualTo(40);
+        assertThat(CompletionStats.bucketOf(72)).isEqualTo(41);
+    }
+
+    @Test
+    void bucketsGrowWithHoursAndOutOfRangeValuesAreClamped() {
+        int previous = CompletionStats.bucketOf(0);
+        for (long hours = 1; hours < 100_000; hours++) {
+            int bucket = CompletionStats.bucketOf(hours);
+            assertThat(bucket).isBetween(previous, previous + 1);
+            previous = bucket;
+        }
+
+        assertThat(CompletionStats.bucketOf(-5)).isZero();
+        assertThat(CompletionStats.bucketOf(Long.MAX_VALUE)).isEqualTo(CompletionStats.bucketOf((1L << 20) - 1));
+    }
+
+    @Test
+    void quantilesAreExactInTheFirstHours() {
+        CompletionStats stats = new CompletionStats();
+        for (long hours = 1; hours <= 20; hours++) {
+            stats.addDuration(hours);
+        }
+
+        assertThat(stats.median()).isEqualTo(10);
+        assertThat(stats.p90()).isEqualTo(18);
+        assertThat(stats.average()).isEqualTo(10.5);
+    }
+
+    @Test
+    void quantilesStayWithinTheBucketError() {
+        CompletionStats stats = new CompletionStats();
+        for (long hours = 1; hours <= 1000; hours++) {
+            stats.addDuration(hours);
+        }
+
+        assertThat(stats.median()).isCloseTo(500, within(500 * 0.125));
+        assertThat(stats.p90()).isCloseTo(900, within(900 * 0.125));
+    }
+
+    @Test
+    void quantilesAreClampedToObservedValues() {
+        CompletionStats stats = new CompletionStats();
+        stats.addDuration(1000);
+
+        assertThat(stats.median()).isEqualTo(1000);
+        assertThat(stats.p90()).isEqualTo(1000);
+    }
+
+    @Test
+    void completionsWithoutHoursCountButDoNotAffectTimes() {
+        CompletionStats stats = new CompletionStats();
+        stats.addCompletion(2, null);
+        stats.addCompletion(1, 10L);
+
+        assertThat(stats.getCompletions()).isEqualTo(2);
+        assertThat(stats.getEvidences()).isEqualTo(3);
+        assertThat(stats.average()).isEqualTo(10);
+        assertThat(stats.median()).isEqualTo(10);
+    }
+
+    @Test
+    void emptyStatsReportZero() {
+        CompletionStats stats = new CompletionStats();
+
+        assertThat(stats.average()).isZero();
+        assertThat(stats.median()).isZero();
+        assertThat(stats.p90()).isZero();
+    }
+
+    @Test
+    void mergingRollupsMatchesAddingEachCompletion() {
+        CompletionStats direct = new CompletionStats();
+        CompletionStats merged = new CompletionStats();
+
+        long[][] days = { { 2, 5, 40 }, { 300, 7 }, { 12 } };
+        for (long[] day : days) {
+            Map<String, Long> histogram = new HashMap<>();
+            long sum = 0;
+            long min = Long.MAX_VALUE;
+            long max = Long.MIN_VALUE;
+            for (long hours : day) {
+                direct.addCompletion(1, hours);
+                histogram.merge(String.valueOf(CompletionStats.bucketOf(hours)), 1L, Long::sum);
+                sum += hours;
+                min = Math.min(min, hours);
+                max = Math.max(max, hours);
+            }
+            merged.merge(day.length, day.length, sum, min, max, histogram);
+        }
+
+        assertThat(merged.getCompletions()).isEqualTo(direct.getCompletions());
+        assertThat(merged.getEvidences()).isEqualTo(direct.getEvidences());
+        assertThat(merged.average()).isEqualTo(direct.average());
+        assertThat(merged.median()).isEqualTo(direct.median());
+        assertThat(merged.p90()).isEqualTo(direct.p90());
+    }
+
+    @Test
+    void mergeWithoutHistogramFallsBackToTheAverage() {
+        CompletionStats stats = new CompletionStats();
+        stats.merge(4, 0, 40, null, null, null);
+
+        assertThat(stats.average()).isEqualTo(10);
+        assertThat(stats.median()).isEqualTo(10);
+    }
+}
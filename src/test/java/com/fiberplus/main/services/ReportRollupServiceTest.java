@@ -0,0 +1,113 @@
+package com.fiberplus.main.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.fiberplus.main.entities.ReportRollupEntity;
+import com.fiberplus.main.entities.TaskCompletionEntity;
+import com.fiberplus.main.entities.TaskEntity;
+import com.fiberplus.main.repositories.ITaskCompletionRepository;
+import com.fiberplus.main.repositories.ITaskRepository;
+import com.fiberplus.main.repositories.ReportRollupRepository;
+
+@ExtendWith(MockitoExtension.class)
+class ReportRollupServiceTest {
+    private static final LocalDateTime CREATED = LocalDateTime.of(2024, 5, 1, 8, 0);
+    private static final LocalDateTime CLOSED = LocalDateTime.of(2024, 5, 3, 20, 0);
+
+    @Mock
+    private ReportRollupRepository rollupRepo;
+    @Mock
+    private ITaskRepository taskRepo;
+    @Mock
+    private ITaskCompletionRepository completionRepo;
+
+    @InjectMocks
+    private ReportRollupService rollupService;
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void backfillCountsTheFirstCompletionOnTheTaskCloseDayAndCurrentBoard() {
+        TaskEntity task = closedTask("b2");
+        when(taskRepo.findLifecycleDatesByStatus("CERRADO")).thenReturn(List.of(task));
+        when(completionRepo.streamAllBy()).thenReturn(List.of(
+                completion("u2", "b1", CLOSED.plusDays(2), 3),
+                completion("u1", "b1", CLOSED.minusHours(1), 1)).stream());
+
+        assertThat(rollupService.backfill()).isEqualTo(1);
+
+        ArgumentCaptor<Collection<ReportRollupEntity>> rollups = ArgumentCaptor.forClass(Collection.class);
+        verify(rollupRepo).replaceAll(rollups.capture(), any());
+        ReportRollupEntity rollup = rollups.getValue().iterator().next();
+        assertThat(rollup.getId()).isEqualTo(ReportRollupEntity.rollupId(CLOSED.toLocalDate(), "b2", "u1"));
+        assertThat(rollup.getCompletedCount()).isEqualTo(1);
+        assertThat(rollup.getEvidenceCount()).isEqualTo(1);
+        assertThat(rollup.getCompletionHours()).isEqualTo(59);
+    }
+
+    @Test
+    void movingAClosedTaskTransfersItsCompletion() {
+        TaskEntity task = closedTask("b2");
+        when(completionRepo.findFirstByTaskIdOrderByCreatedAtAsc("t1"))
+                .thenReturn(Optional.of(completion("u1", "b1", CLOSED.minusHours(1), 2)));
+
+        rollupService.recordMove(task, "b1");
+
+        verify(rollupRepo).transfer(CLOSED.toLocalDate(), "b1", "b2", "u1", 2, 59, CompletionStats.bucketOf(59));
+    }
+
+    @Test
+    void movingAnOpenTaskLeavesRollupsAlone() {
+        TaskEntity task = closedTask("b2");
+        task.setStatus("ABIERTO");
+        task.setClosedAt(null);
+
+        rollupService.recordMove(task, "b1");
+
+        verify(rollupRepo, never()).transfer(any(), anyString(), anyString(), anyString(), anyLong(), anyLong(),
+                anyInt());
+        verify(completionRepo, never()).findFirstByTaskIdOrderByCreatedAtAsc(eq("t1"));
+    }
+
+    private static TaskEntity closedTask(String boardId) {
+        return TaskEntity.builder()
+                .id("t1")
+                .boardId(boardId)
+                .status("CERRADO")
+                .createdAt(CREATED)
+                .closedAt(CLOSED)
+                .build();
+    }
+
+    private static TaskCompletionEntity completion(String userId, String boardId, LocalDateTime createdAt,
+            int evidences) {
+        return TaskCompletionEntity.builder()
+                .taskId("t1")
+                .boardId(boardId)
+                .completedBy(userId)
+                .completedAt(CLOSED.minusHours(1))
+                .createdAt(createdAt)
+                .imageUrls(Collections.nCopies(evidences, "https://img"))
+                .build();
+    }
+}
@@ -0,0 +1,235 @@
+package com.fiberplus.main.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import com.fiberplus.main.dtos.report.BoardStatistics;
+import com.fiberplus.main.dtos.report.ReportDto;
+import com.fiberplus.main.dtos.report.ReportSummary;
+import com.fiberplus.main.entities.BoardEntity;
+import com.fiberplus.main.entities.ReportRollupEntity;
+import com.fiberplus.main.entities.TaskCompletionEntity;
+import com.fiberplus.main.entities.TaskEntity;
+import com.fiberplus.main.entities.UserEntity;
+import com.fiberplus.main.repositories.IBoardRepository;
+import com.fiberplus.main.repositories.ITaskCompletionRepository;
+import com.fiberplus.main.repositories.IUserRepository;
+import com.fiberplus.main.repositories.ReportAggregationRepository;
+import com.fiberplus.main.repositories.ReportAggregationRepository.CompletionTime;
+import com.fiberplus.main.repositories.ReportRollupRepository;
+
+/**
+ * El número de consultas de un reporte no depende de cuántas tareas, tableros o
+ * usuarios abarca: cada sección hace una consulta por colección.
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ReportServiceTest {
+    private static final int TASKS = 60;
+    private static final int BOARDS = 6;
+    private static final int USERS = 12;
+    private static final LocalDateTime CLOSED = LocalDateTime.of(2024, 5, 10, 14, 0);
+
+    @Mock
+    private IBoardRepository boardRepo;
+    @Mock
+    private ITaskCompletionRepository completionRepo;
+    @Mock
+    private IUserRepository userRepo;
+    @Mock
+    private ReportAggregationRepository reportRepo;
+    @Mock
+    private ReportRollupRepository rollupRepo;
+
+    private ReportService reportService;
+
+    @BeforeEach
+    void setUp() {
+        reportService = new ReportService(boardRepo, completionRepo, userRepo, reportRepo, rollupRepo,
+                new ReportCacheService(10, 60), 30);
+
+        List<TaskEntity> tasks = new ArrayList<>();
+        List<TaskCompletionEntity> completions = new ArrayList<>();
+        List<CompletionTime> times = new ArrayList<>();
+        List<ReportRollupEntity> rollups = new ArrayList<>();
+        for (int i = 0; i < TASKS; i++) {
+            String boardId = "b" + (i % BOARDS);
+            String userId = "u" + (i % USERS);
+            tasks.add(TaskEntity.builder()
+                    .id("t" + i)
+                    .title("Tarea " + i)
+                    .boardId(boardId)
+                    .assignedTo(List.of(userId))
+                    .status("CERRADO")
+                    .createdAt(CLOSED.minusHours(i))
+                    .closedAt(CLOSED)
+                    .build());
+            completions.add(TaskCompletionEntity.builder()
+                    .taskId("t" + i)
+                    .boardId(boardId)
+                    .completedBy(userId)
+                    .completedAt(CLOSED)
+                    .build());
+            times.add(new CompletionTime(userId, boardId, 1, (long) i));
+            rollups.add(ReportRollupEntity.builder()
+                    .day(CLOSED.toLocalDate())
+                    .boardId(boardId)
+                    .userId(userId)
+                    .completedCount(1)
+                    .evidenceCount(1)
+                    .completionHours(i)
+                    .minHours((long) i)
+                    .maxHours((long) i)
+                    .hoursHistogram(Map.of(String.valueOf(CompletionStats.bucketOf(i)), 1L))
+                    .build());
+        }
+
+        List<BoardEntity> boards = new ArrayList<>();
+        Map<String, Integer> totals = new HashMap<>();
+        List<BoardStatistics> boardStats = new ArrayList<>();
+        for (int i = 0; i < BOARDS; i++) {
+            boards.add(BoardEntity.builder().id("b" + i).title("Tablero " + i).status("ACTIVE").build());
+            totals.put("b" + i, TASKS / BOARDS);
+            boardStats.add(BoardStatistics.builder()
+                    .boardId("b" + i)
+                    .boardName("Tablero " + i)
+                    .totalTasks(TASKS / BOARDS)
+                    .completedTasks(TASKS / BOARDS)
+                    .completionRate(100)
+                    .build());
+        }
+        List<UserEntity> users = new ArrayList<>();
+        for (int i = 0; i < USERS; i++) {
+            UserEntity user = new UserEntity();
+            user.setId("u" + i);
+            user.setName("Usuario");
+            user.setLastname(String.valueOf(i));
+            users.add(user);
+        }
+
+        when(reportRepo.findCompletedTasks(any(), any(), any())).thenReturn(tasks);
+        when(completionRepo.findByTaskIdIn(anySet())).thenReturn(completions);
+        when(reportRepo.streamCompletionTimes(any(), any(), any())).thenAnswer(invocation -> times.stream());
+        when(reportRepo.aggregateBoardStatistics(any(), any(), any())).thenReturn(boardStats);
+        when(reportRepo.countTasksByBoard(any())).thenReturn(totals);
+        when(rollupRepo.findBetween(any(), any(), any())).thenReturn(rollups);
+        when(boardRepo.findAll()).thenReturn(boards);
+        when(boardRepo.findAllById(anyCollection())).thenReturn(boards);
+        when(userRepo.findAll()).thenReturn(users);
+        when(userRepo.findAllById(anyCollection())).thenReturn(users);
+    }
+
+    @AfterEach
+    void tearDown() {
+        reportService.shutdown();
+    }
+
+    @Test
+    void reportFromTaskHistoryMakesOneQueryPerCollectionAndSection() {
+        ReportDto report = reportService.generateBoardReport("b1", CLOSED.minusDays(3).withHour(9),
+                CLOSED.withHour(18));
+
+        assertThat(report.getIncompleteSections()).isNull();
+        assertThat(report.getTasks()).hasSize(TASKS);
+
+        verify(reportRepo).findCompletedTasks(any(), any(), any());
+        verify(completionRepo).findByTaskIdIn(anySet());
+        verify(reportRepo).streamCompletionTimes(any(), any(), any());
+        verify(reportRepo).aggregateBoardStatistics(any(), any(), any());
+        verify(reportRepo).countTasksByBoard(any());
+        verify(boardRepo).findAll();
+        verify(userRepo).findAll();
+        verify(boardRepo).findAllById(anyCollection());
+        verify(userRepo, times(2)).findAllById(anyCollection());
+        verifyNoMoreInteractions(reportRepo, completionRepo, boardRepo, userRepo, rollupRepo);
+    }
+
+    @Test
+    void reportOverWholeDaysReadsRollupsInsteadOfCompletions() {
+        ReportDto report = reportService.generateReport(CLOSED.toLocalDate().minusDays(3).atStartOfDay(),
+                CLOSED.toLocalDate().plusDays(1).atStartOfDay(), "GENERAL");
+
+        assertThat(report.getIncompleteSections()).isNull();
+        assertThat(report.getSummary().getCompletedTasks()).isEqualTo(TASKS);
+
+        verify(rollupRepo).findBetween(any(), any(), any());
+        verify(reportRepo, never()).streamCompletionTimes(any(), any(), any());
+        verify(reportRepo, never()).aggregateBoardStatistics(any(), any(), any());
+        verify(reportRepo, times(2)).countTasksByBoard(any());
+        verify(reportRepo).findCompletedTasks(any(), any(), any());
+        verify(completionRepo).findByTaskIdIn(anySet());
+        verify(boardRepo, times(2)).findAllById(anyCollection());
+        verify(userRepo, times(2)).findAllById(anyCollection());
+    }
+
+    @Test
+    void cachedReportMakesNoQueries() {
+        LocalDateTime start = CLOSED.minusDays(3).withHour(9);
+        LocalDateTime end = CLOSED.withHour(18);
+
+        reportService.generateBoardReport("b1", start, end);
+        reportService.generateBoardReport("b1", start, end);
+
+        verify(reportRepo).findCompletedTasks(any(), any(), any());
+        verify(reportRepo).streamCompletionTimes(any(), any(), any());
+    }
+
+    @Test
+    void rollupAndHistorySummariesAgreeOnTheSameData() {
+        ReportSummary fromHistory = reportService.generateReport(CLOSED.minusDays(3).withHour(9),
+                CLOSED.withHour(18), "GENERAL").getSummary();
+        ReportSummary fromRollups = reportService.generateReport(CLOSED.toLocalDate().minusDays(3).atStartOfDay(),
+                CLOSED.toLocalDate().plusDays(1).atStartOfDay(), "GENERAL").getSummary();
+
+        verify(rollupRepo).findBetween(any(), any(), any());
+        verify(reportRepo).streamCompletionTimes(any(), any(), any());
+
+        assertThat(fromRollups.getTotalTasks()).isEqualTo(fromHistory.getTotalTasks());
+        assertThat(fromRollups.getCompletedTasks()).isEqualTo(fromHistory.getCompletedTasks());
+        assertThat(fromRollups.getPendingTasks()).isEqualTo(fromHistory.getPendingTasks());
+        assertThat(fromRollups.getTotalEvidences()).isEqualTo(fromHistory.getTotalEvidences());
+        assertThat(fromRollups.getUserPerformance())
+                .usingRecursiveFieldByFieldElementComparator()
+                .containsExactlyInAnyOrderElementsOf(fromHistory.getUserPerformance());
+        assertThat(fromRollups.getBoardStatistics())
+                .usingRecursiveFieldByFieldElementComparator()
+                .containsExactlyInAnyOrderElementsOf(fromHistory.getBoardStatistics());
+    }
+
+    @Test
+    void staleRollupsNeverReportNegativePendingTasks() {
+        List<ReportRollupEntity> doubled = new ArrayList<>(rollupRepo.findBetween(null, null, null));
+        doubled.addAll(rollupRepo.findBetween(null, null, null));
+        when(rollupRepo.findBetween(any(), any(), any())).thenReturn(doubled);
+
+        ReportSummary summary = reportService.generateReport(CLOSED.toLocalDate().minusDays(3).atStartOfDay(),
+                CLOSED.toLocalDate().plusDays(1).atStartOfDay(), "GENERAL").getSummary();
+
+        assertThat(summary.getCompletedTasks()).isGreaterThan(summary.getTotalTasks());
+        assertThat(summary.getPendingTasks()).isZero();
+        assertThat(summary.getBoardStatistics()).allSatisfy(board -> assertThat(board.getCompletionRate())
+                .isLessThanOrEqualTo(100));
+    }
+}
@@ -0,0 +1,169 @@
+package com.fiberplus.main.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import com.fiberplus.main.controllers.task.request.TaskSearchDto;
+import com.fiberplus.main.dtos.TaskPageDto;
+import com.fiberplus.main.entities.TaskEntity;
+import com.fiberplus.main.exception.GenericException;
+import com.fiberplus.main.repositories.ITaskRepository;
+import com.fiberplus.main.repositories.IUserRepository;
+import com.fiberplus.main.repositories.TaskQueryRepository;
+import com.fiberplus.main.repositories.TaskQueryRepository.SearchCursor;
+import com.fiberplus.main.repositories.TaskWriteRepository;
+
+@ExtendWith(MockitoExtension.class)
+class TaskServiceSearchTest {
+    private static final LocalDateTime BASE = LocalDateTime.of(2024, 3, 1, 8, 30, 15);
+
+    @Mock
+    private ITaskRepository taskRepo;
+    @Mock
+    private TaskQueryRepository taskQueries;
+    @Mock
+    private TaskWriteRepository taskWrites;
+    @Mock
+    private ActiveBoardRegistry activeBoards;
+    @Mock
+    private RankRebalanceService rankRebalance;
+    @Mock
+    private IUserRepository userRepo;
+    @Mock
+    private NotificationService notificationService;
+    @Mock
+    private EmailService emailService;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @Mock
+    private ChangeSequenceService changeSequence;
+    @Mock
+    private ReportRollupService rollupService;
+
+    @InjectMocks
+    private TaskService taskService;
+
+    @Test
+    void firstPageAsksForOneExtraRowAndReturnsACursor() {
+        when(taskQueries.search(any(), eq(TaskQueryRepository.SORT_CREATED_AT), eq(false), isNull(), eq(3)))
+                .thenReturn(tasks(3));
+
+        TaskPageDto page = taskService.searchTasks(search(2, null));
+
+        assertThat(page.getTasks()).extracting("id").containsExactly("t0", "t1");
+        assertThat(page.getNextCursor()).isNotNull();
+    }
+
+    @Test
+    void nextCursorResumesAfterTheLastTaskOfThePage() {
+        when(taskQueries.search(any(), anyString(), anyBoolean(), any(), anyInt()))
+                .thenReturn(tasks(3))
+                .thenReturn(List.of());
+
+        String cursor = taskService.searchTasks(search(2, null)).getNextCursor();
+        taskService.searchTasks(search(2, cursor));
+
+        ArgumentCaptor<SearchCursor> after = ArgumentCaptor.forClass(SearchCursor.class);
+        verify(taskQueries, times(2)).search(any(), anyString(), anyBoolean(), after.capture(), anyInt());
+        assertThat(after.getAllValues().get(0)).isNull();
+        assertThat(after.getAllValues().get(1)).isEqualTo(new SearchCursor(BASE.plusHours(1), "t1"));
+    }
+
+    @Test
+    void cursorKeepsTasksWithoutSortValue() {
+        List<TaskEntity> tasks = tasks(2);
+        tasks.get(0).setDueDate(null);
+        when(taskQueries.search(any(), anyString(), anyBoolean(), any(), anyInt()))
+                .thenReturn(tasks)
+                .thenReturn(List.of());
+
+        TaskSearchDto first = search(1, null);
+        first.setSort(TaskQueryRepository.SORT_DUE_DATE);
+        String cursor = taskService.searchTasks(first).getNextCursor();
+
+        TaskSearchDto second = search(1, cursor);
+        second.setSort(TaskQueryRepository.SORT_DUE_DATE);
+        taskService.searchTasks(second);
+
+        verify(taskQueries).search(any(), eq(TaskQueryRepository.SORT_DUE_DATE), eq(true),
+                eq(new SearchCursor(null, "t0")), eq(2));
+    }
+
+    @Test
+    void lastPageHasNoCursor() {
+        when(taskQueries.search(any(), anyString(), anyBoolean(), any(), anyInt())).thenReturn(tasks(2));
+
+        TaskPageDto page = taskService.searchTasks(search(2, null));
+
+        assertThat(page.getTasks()).hasSize(2);
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    @Test
+    void pageSizeIsCapped() {
+        when(taskQueries.search(any(), anyString(), anyBoolean(), any(), anyInt())).thenReturn(List.of());
+
+        taskService.searchTasks(search(10_000, null));
+
+        verify(taskQueries).search(any(), anyString(), anyBoolean(), isNull(),
+                eq(TaskService.MAX_SEARCH_PAGE_SIZE + 1));
+    }
+
+    @Test
+    void rejectsMalformedCursors() {
+        for (String cursor : List.of("%%%", encode("sin-separador"), encode("no-es-fecha|t1"))) {
+            assertThatThrownBy(() -> taskService.searchTasks(search(2, cursor)))
+                    .isInstanceOf(GenericException.class)
+                    .hasMessage("Cursor de búsqueda inválido.");
+        }
+        verify(taskQueries, never()).search(any(), anyString(), anyBoolean(), any(), anyInt());
+    }
+
+    private static TaskSearchDto search(int pageSize, String cursor) {
+        TaskSearchDto search = new TaskSearchDto();
+        search.setPageSize(pageSize);
+        search.setCursor(cursor);
+        return search;
+    }
+
+    private static List<TaskEntity> tasks(int count) {
+        List<TaskEntity> tasks = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            tasks.add(TaskEntity.builder()
+                    .id("t" + i)
+                    .title("Tarea " + i)
+                    .createdAt(BASE.plusHours(i))
+                    .dueDate(BASE.plusDays(i))
+                    .build());
+        }
+        return tasks;
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}